@@ -0,0 +1,17 @@
+#!/bin/bash
+# 🗄️ Read replica ilk kurulum - primary'ye GTID auto-position ile bağlan
+#
+# mysql:8.0 image'ı bu script'i sadece boş veri dizininde (ilk başlangıçta) çalıştırır.
+# Veritabanı, uygulama kullanıcısı ve tablolar primary'den replike edilir; replikasyon
+# sunucu yeniden başladığında otomatik başlar.
+set -e
+
+docker_process_sql <<-EOSQL
+	CHANGE REPLICATION SOURCE TO
+		SOURCE_HOST='${REPLICA_SOURCE_HOST:-mysql}',
+		SOURCE_PORT=3306,
+		SOURCE_USER='root',
+		SOURCE_PASSWORD='${REPLICA_SOURCE_PASSWORD}',
+		SOURCE_AUTO_POSITION=1,
+		GET_SOURCE_PUBLIC_KEY=1;
+EOSQL
@@ -6,6 +6,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * AI Hukuk Sistemi Backend Application
@@ -24,6 +25,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
  */
 @SpringBootApplication
 @EnableJpaAuditing // Otomatik createdAt/updatedAt için
+@EnableScheduling // Periyodik arka plan işleri için
 @ConfigurationPropertiesScan // Configuration properties'leri taramak için
 public class AiHukukApplication {
 
@@ -0,0 +1,218 @@
+// 🗄️ DataSource Configuration - Ayrı HikariCP havuzları (bulkhead) ve teşhis katmanı
+
+package com.aihukuk.config;
+
+import com.aihukuk.datasource.CircuitBreakerDataSource;
+import com.aihukuk.datasource.DataSourcePool;
+import com.aihukuk.datasource.DataSourcePoolInterceptor;
+import com.aihukuk.datasource.FailFastJpaTransactionManager;
+import com.aihukuk.datasource.PoolRoutingDataSource;
+import com.aihukuk.datasource.ReadYourWritesTracker;
+import com.aihukuk.datasource.ReplicaDataSources;
+import com.aihukuk.datasource.ReplicaRoutingDataSource;
+import com.aihukuk.datasource.TrackingDataSource;
+import com.aihukuk.datasource.UseDataSourcePool;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * DataSource Configuration
+ *
+ * JavaScript database.js'deki tek mysql2 pool yerine iki ayrı HikariCP havuzu (bulkhead):
+ * - authDataSource (spring.datasource.hikari): login, token doğrulama, kullanıcı yazmaları
+ * - reportingDataSource (datasource-pools.reporting): istatistik, listeleme, admin ve
+ *   arka plan işleri
+ *
+ * Her havuzun kendi timeout'ları ve pool-name etiketli hikaricp.* metrikleri vardır.
+ * Uygulama tek bir @Primary DataSource (PoolRoutingDataSource) görür; havuz
+ * @UseDataSourcePool ile seçilir, işaretsiz çağrılar AUTH havuzunu kullanır.
+ * db-diagnostics.track-holders açıksa havuzlar TrackingDataSource ile sarılır (development profili).
+ * Her havuzun önünde kendi CircuitBreakerDataSource'u vardır (db-circuit-breaker);
+ * veritabanı takıldığında istekler connection-timeout kadar beklemeden 503 alır.
+ *
+ * datasource-replicas.enabled ise read-only transaction'lar ReplicaRoutingDataSource ile
+ * replica havuzlarına gider; fiziksel bağlantı LazyConnectionDataSourceProxy sayesinde
+ * transaction'ın read-only bilgisi hazır olduktan sonra (ilk SQL'de) alınır.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Value("${db-diagnostics.track-holders:false}")
+    private boolean trackHolders;
+
+    @Value("${db-circuit-breaker.enabled:true}")
+    private boolean circuitBreakerEnabled;
+
+    @Value("${db-circuit-breaker.failure-threshold:5}")
+    private int circuitFailureThreshold;
+
+    @Value("${db-circuit-breaker.open-duration-ms:5000}")
+    private long circuitOpenDurationMs;
+
+    @Value("${datasource-replicas.enabled:false}")
+    private boolean replicasEnabled;
+
+    @Value("${datasource-replicas.urls:}")
+    private List<String> replicaUrls;
+
+    @Value("${datasource-replicas.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${datasource-replicas.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${datasource-replicas.max-lag-ms:5000}")
+    private long replicaMaxLagMs;
+
+    /**
+     * Auth havuzu - küçük ve düşük gecikmeli
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource authDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Reporting havuzu - yavaş sorgular auth havuzunu bekletmez
+     * Bağlantı bilgileri (url, kullanıcı, şifre) spring.datasource'tan gelir
+     */
+    @Bean
+    @ConfigurationProperties("datasource-pools.reporting")
+    public HikariDataSource reportingDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Replica havuzlarının ortak ayarları (datasource-replicas.pool)
+     */
+    @Bean
+    @ConfigurationProperties("datasource-replicas.pool")
+    public HikariConfig replicaPoolConfig() {
+        return new HikariConfig();
+    }
+
+    /**
+     * Read replica havuzları - her URL için bir havuz (replica-1, replica-2, ...)
+     * Sürücü spring.datasource'tan gelir; bağlantılar read-only açılır
+     */
+    @Bean
+    public ReplicaDataSources replicaDataSources(DataSourceProperties properties,
+                                                 @Qualifier("replicaPoolConfig") HikariConfig poolConfig,
+                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        ReplicaDataSources replicas = new ReplicaDataSources();
+        if (!replicasEnabled) {
+            return replicas;
+        }
+
+        List<String> urls = replicaUrls.stream().map(String::trim).filter(url -> !url.isEmpty()).toList();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            poolConfig.copyStateTo(config);
+            config.setPoolName((poolConfig.getPoolName() != null ? poolConfig.getPoolName() : "AiHukukReplicaCP") + "-" + (i + 1));
+            config.setDriverClassName(properties.determineDriverClassName());
+            config.setJdbcUrl(urls.get(i));
+            config.setUsername(replicaUsername);
+            config.setPassword(replicaPassword);
+            config.setReadOnly(true);
+
+            // Havuzlar bean olmadığından hikaricp.* metrikleri burada bağlanır
+            meterRegistry.ifAvailable(registry -> config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.add("replica-" + (i + 1), new HikariDataSource(config));
+        }
+        return replicas;
+    }
+
+    /**
+     * Uygulamanın kullandığı DataSource (JPA, JdbcTemplate, health prober)
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("authDataSource") HikariDataSource authDataSource,
+                                 @Qualifier("reportingDataSource") HikariDataSource reportingDataSource,
+                                 ReplicaDataSources replicaDataSources,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        Map<DataSourcePool, DataSource> pools = new EnumMap<>(DataSourcePool.class);
+        pools.put(DataSourcePool.AUTH, guard(DataSourcePool.AUTH.name(), track(authDataSource)));
+        pools.put(DataSourcePool.REPORTING, guard(DataSourcePool.REPORTING.name(), track(reportingDataSource)));
+        PoolRoutingDataSource primary = new PoolRoutingDataSource(pools);
+
+        if (replicaDataSources.isEmpty()) {
+            return primary;
+        }
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicaDataSources.getPools().forEach((name, pool) -> replicas.put(name, guard(name, track(pool))));
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replicas, readYourWritesTracker, replicaMaxLagMs));
+    }
+
+    /**
+     * JPA transaction manager (Spring Boot'un varsayılanı yerine)
+     * Devre kesicinin reddi CannotCreateTransactionException içinde kaybolmaz
+     */
+    @Bean
+    public PlatformTransactionManager transactionManager(ObjectProvider<TransactionManagerCustomizers> customizers) {
+        FailFastJpaTransactionManager transactionManager = new FailFastJpaTransactionManager();
+        customizers.ifAvailable(transactionManagerCustomizers -> transactionManagerCustomizers.customize(transactionManager));
+        return transactionManager;
+    }
+
+    /**
+     * @UseDataSourcePool metodlarında havuz seçimi
+     * Transaction advisor'ından (LOWEST_PRECEDENCE) önce çalışır; transaction'ın bağlantısı
+     * seçilen havuzdan alınır.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor dataSourcePoolAdvisor() {
+        ComposablePointcut pointcut = new ComposablePointcut(
+                new AnnotationMatchingPointcut(null, UseDataSourcePool.class, true))
+                .union(new AnnotationMatchingPointcut(UseDataSourcePool.class, true));
+
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new DataSourcePoolInterceptor());
+        advisor.setOrder(Ordered.LOWEST_PRECEDENCE - 100);
+        return advisor;
+    }
+
+    // Helper Methods
+
+    private DataSource track(HikariDataSource pool) {
+        return trackHolders ? new TrackingDataSource(pool) : pool;
+    }
+
+    private DataSource guard(String name, DataSource dataSource) {
+        if (!circuitBreakerEnabled) {
+            return dataSource;
+        }
+        return new CircuitBreakerDataSource(dataSource, name.toLowerCase(Locale.ROOT),
+                circuitFailureThreshold, circuitOpenDurationMs);
+    }
+}
@@ -0,0 +1,154 @@
+// 🧊 Hibernate Cache Configuration - JCache (Caffeine) second-level cache bölgeleri
+
+package com.aihukuk.config;
+
+import com.aihukuk.entity.User;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Hibernate Cache Configuration
+ *
+ * Ek özellik (JavaScript'te yoktu - Hibernate second-level cache)
+ *
+ * Aynı aktif kullanıcılar için tekrarlanan id/uuid/email aramaları node içindeki
+ * Caffeine (JCache) bölgelerinden karşılanır:
+ * - users: User entity'leri (READ_WRITE; UserService yazmaları commit'te bölgeyi günceller)
+ * - users-natural-id: uuid -> id çözümlemesi
+ * - users-by-email: email sorgularının sonuç id'leri (query cache); users tablosuna
+ *   Hibernate üzerinden yapılan her yazmada geçersiz olur
+ * - default-update-timestamps-region: query cache'in tablo zaman damgaları; süresi dolmaz
+ *
+ * Bölgeler burada sınırlı boyut ve TTL ile oluşturulur (hibernate-cache); tanımsız bölge
+ * Hibernate tarafından sınırsız oluşturulmasın diye missing_cache_strategy: fail'dir.
+ * Cache node'a özeldir: diğer node'lardaki yazmalar en geç expire-after-write-seconds
+ * sonra görülür (user-cache ile aynı sınır). JDBC ile yapılan yazmalar (LastLoginRecorder,
+ * UserArchivalService) etkilenen kayıtları kendileri bölgeden çıkarır.
+ *
+ * Bölge başına hibernate.second.level.cache.requests (hit/miss) metriklerine ek olarak
+ * hibernate.cache.hit.ratio gauge'u yayınlanır.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    private static final List<String> ENTITY_REGIONS = List.of(
+            User.CACHE_REGION, User.NATURAL_ID_CACHE_REGION);
+
+    private static final List<String> QUERY_REGIONS = List.of(
+            User.EMAIL_QUERY_CACHE_REGION, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+
+    @Value("${hibernate-cache.users.maximum-size:100000}")
+    private long usersMaximumSize;
+
+    @Value("${hibernate-cache.users.expire-after-write-seconds:60}")
+    private long usersExpireAfterWriteSeconds;
+
+    @Value("${hibernate-cache.query-results.maximum-size:100000}")
+    private long queryResultsMaximumSize;
+
+    @Value("${hibernate-cache.query-results.expire-after-write-seconds:60}")
+    private long queryResultsExpireAfterWriteSeconds;
+
+    /**
+     * Hibernate'in kullandığı JCache CacheManager ve bölgeleri
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        // Varsayılan URI JVM genelinde tek CacheManager verir; aynı JVM'deki ikinci bir
+        // context (ör. testler) aynı bölgeleri tekrar oluşturamaz
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("hibernate-cache-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        ENTITY_REGIONS.forEach(region -> cacheManager.createCache(region,
+                regionConfiguration(usersMaximumSize, usersExpireAfterWriteSeconds)));
+        QUERY_REGIONS.forEach(region -> cacheManager.createCache(region,
+                regionConfiguration(queryResultsMaximumSize, queryResultsExpireAfterWriteSeconds)));
+
+        // Zaman damgaları query cache sonuçlarından önce silinmemeli (tablo başına tek kayıt)
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                regionConfiguration(1000, 0));
+        return cacheManager;
+    }
+
+    /**
+     * Hibernate'e hazır CacheManager'ı ver
+     * (region factory ve diğer cache ayarları spring.jpa.properties.hibernate.cache altında)
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    /**
+     * Bölge başına isabet oranı (hibernate.cache.hit.ratio)
+     * İstek yoksa NaN döner
+     */
+    @Bean
+    public MeterBinder hibernateCacheHitRatioMetrics(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        return registry -> {
+            ENTITY_REGIONS.forEach(region -> Gauge.builder("hibernate.cache.hit.ratio",
+                            () -> hitRatio(entityManagerFactory, statistics -> statistics.getDomainDataRegionStatistics(region)))
+                    .description("Hibernate second-level cache isabet oranı")
+                    .tag("region", region)
+                    .register(registry));
+            QUERY_REGIONS.forEach(region -> Gauge.builder("hibernate.cache.hit.ratio",
+                            () -> hitRatio(entityManagerFactory, statistics -> statistics.getQueryRegionStatistics(region)))
+                    .description("Hibernate second-level cache isabet oranı")
+                    .tag("region", region)
+                    .register(registry));
+        };
+    }
+
+    // Helper Methods
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(long maximumSize, long expireAfterWriteSeconds) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        if (expireAfterWriteSeconds > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(expireAfterWriteSeconds)));
+        }
+        // Hibernate cache girdileri zaten ayrıştırılmış (disassembled) değerlerdir; kopyalama gereksiz
+        configuration.setStoreByValue(false);
+        return configuration;
+    }
+
+    private static double hitRatio(ObjectProvider<EntityManagerFactory> entityManagerFactory,
+                                   Function<Statistics, CacheRegionStatistics> regionStatistics) {
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        if (factory == null || !factory.isOpen()) {
+            return Double.NaN;
+        }
+
+        CacheRegionStatistics statistics = regionStatistics.apply(factory.unwrap(SessionFactory.class).getStatistics());
+        if (statistics == null) {
+            return Double.NaN;
+        }
+
+        long requests = statistics.getHitCount() + statistics.getMissCount();
+        return requests > 0 ? (double) statistics.getHitCount() / requests : Double.NaN;
+    }
+}
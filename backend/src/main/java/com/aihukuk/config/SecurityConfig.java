@@ -3,6 +3,12 @@
 package com.aihukuk.config;
 
 import com.aihukuk.filter.JwtAuthenticationFilter;
+import com.aihukuk.filter.RateLimitFilter;
+import com.aihukuk.security.AdaptivePasswordEncoder;
+import com.aihukuk.security.UserPrincipal;
+import com.aihukuk.security.UserPrincipalCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -17,7 +23,6 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -36,18 +41,23 @@ import java.util.List;
  * - CORS (JavaScript cors middleware)
  * - Authentication (JavaScript authenticateToken middleware)  
  * - Password Encoding (JavaScript bcrypt)
- * - Rate Limiting (application.yml'da tanımlı)
+ * - Rate Limiting (JavaScript express-rate-limit - RateLimitFilter)
  */
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(SecurityConfig.class);
+
     // Circular dependency'den kaçınmak için @Lazy kullanıyoruz
     @Autowired
     @org.springframework.context.annotation.Lazy
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
     // CORS Configuration (JavaScript CORS middleware karşılığı)
     @Value("${cors.allowed-origins:http://localhost:3000}")
     private String allowedOrigins;
@@ -61,6 +71,30 @@ public class SecurityConfig {
     @Value("${cors.allow-credentials:true}")
     private boolean allowCredentials;
 
+    // Password hashing (JavaScript bcrypt saltRounds karşılığı)
+    @Value("${bcrypt.rounds:12}")
+    private int bcryptRounds;
+
+    @Value("${bcrypt.calibration.enabled:true}")
+    private boolean bcryptCalibrationEnabled;
+
+    @Value("${bcrypt.calibration.target-latency-ms:100}")
+    private long bcryptTargetLatencyMs;
+
+    // Alt sınır bcrypt.rounds: kalibrasyon cost'u düşürürse yeni hash'ler zayıflar ve
+    // upgradeEncoding düşük cost'a geri dönüşü hiç yenilemez
+    @Value("${bcrypt.calibration.min-rounds:${bcrypt.rounds:12}}")
+    private int bcryptMinRounds;
+
+    @Value("${bcrypt.calibration.max-rounds:14}")
+    private int bcryptMaxRounds;
+
+    @Value("${bcrypt.calibration.max-duration-ms:2000}")
+    private long bcryptCalibrationMaxDurationMs;
+
+    @Value("${password-hashing.algorithm:bcrypt}")
+    private String passwordAlgorithm;
+
     /**
      * Security Filter Chain
      * JavaScript security middleware'lerin Spring Security karşılığı
@@ -94,12 +128,19 @@ public class SecurityConfig {
                 .requestMatchers("/actuator/**").permitAll()
                 
                 // Protected endpoints (JavaScript authenticateToken middleware)
-                .requestMatchers("/v1/auth/profile", "/v1/auth/logout").authenticated()
+                .requestMatchers("/v1/auth/profile", "/v1/auth/logout", "/v1/auth/logout-all").authenticated()
+                
+                // Admin endpoints (hesap kontrolü AdminController'da @PreAuthorize ile)
+                .requestMatchers("/v1/admin/**").authenticated()
                 
                 // Diğer tüm istekler authenticate olmalı
                 .anyRequest().authenticated()
             )
             
+            // Rate limit filter'ı (JavaScript limiter middleware) - aynı konuma önce eklendiği için
+            // JWT filter'ından önce çalışır, limit aşan istekler için token doğrulanmaz
+            .addFilterBefore(rateLimitFilter, UsernamePasswordAuthenticationFilter.class)
+
             // JWT Filter ekle (JavaScript authenticateToken middleware)
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
@@ -141,11 +182,26 @@ public class SecurityConfig {
     /**
      * Password Encoder
      * JavaScript bcrypt karşılığı
+     * 
+     * Kalibrasyon açıksa BCrypt cost'u başlangıçta ölçülerek gecikme bütçesine göre seçilir
+     * (bcrypt.rounds'un altına inmez, en fazla max-duration-ms sürer), kapalıysa bcrypt.rounds kullanılır. Eski hash'ler login sırasında yeni ayarlarla yenilenir.
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
         // JavaScript'teki bcrypt.hash ve bcrypt.compare karşılığı
-        return new BCryptPasswordEncoder(12); // application.yml'daki bcrypt.rounds
+        int rounds = bcryptCalibrationEnabled
+                ? AdaptivePasswordEncoder.calibrateBCryptRounds(bcryptMinRounds, bcryptMaxRounds,
+                        bcryptTargetLatencyMs, bcryptCalibrationMaxDurationMs)
+                : bcryptRounds;
+
+        // Farklı donanımdaki node'lar farklı cost seçebilir; sonucu sabitlemek kalibrasyonu da atlatır
+        if (rounds != bcryptRounds) {
+            logger.warn("BCrypt cost {} chosen by calibration differs from bcrypt.rounds {}; "
+                    + "set BCRYPT_ROUNDS={} and BCRYPT_CALIBRATION_ENABLED=false to reuse it without calibrating",
+                    rounds, bcryptRounds, rounds);
+        }
+
+        return AdaptivePasswordEncoder.create(passwordAlgorithm, rounds);
     }
 
     /**
@@ -160,27 +216,19 @@ public class SecurityConfig {
     /**
      * User Details Service
      * JWT authentication için kullanıcı yükleme servisi
-     * Circular dependency'den kaçınmak için UserRepository'i direkt kullanıyoruz
+     * Circular dependency'den kaçınmak için UserService yerine principal cache'i direkt kullanıyoruz
+     * (cache'te yoksa UserRepository'den yüklenir)
      */
     @Bean
-    public UserDetailsService userDetailsService(com.aihukuk.repository.UserRepository userRepository) {
+    public UserDetailsService userDetailsService(UserPrincipalCache userPrincipalCache) {
         return email -> {
-            var user = userRepository.findByEmailIgnoreCaseAndStatusNot(email, 
-                com.aihukuk.entity.User.UserStatus.DELETED).orElse(null);
-            if (user == null) {
+            UserPrincipal principal = userPrincipalCache.getByEmail(email);
+            if (principal == null) {
                 throw new UsernameNotFoundException("Kullanıcı bulunamadı: " + email);
             }
-            
-            // Spring Security UserDetails oluştur
-            return org.springframework.security.core.userdetails.User.builder()
-                    .username(user.getEmail())
-                    .password(user.getPasswordHash())
-                    .authorities("USER") // Temel kullanıcı rolü
-                    .accountExpired(false)
-                    .accountLocked(!user.isActive()) // JavaScript status kontrolü
-                    .credentialsExpired(false)
-                    .disabled(user.getStatus() == com.aihukuk.entity.User.UserStatus.DELETED)
-                    .build();
+
+            // Hesap durumu principal üzerinden: accountLocked = !active, disabled = deleted
+            return principal;
         };
     }
 }
@@ -0,0 +1,78 @@
+// 🛡️ Admin Controller - Yönetim endpoint'leri
+
+package com.aihukuk.controller;
+
+import com.aihukuk.dto.response.ApiResponse;
+import com.aihukuk.dto.response.UserPageResponse;
+import com.aihukuk.exception.ServiceOverloadedException;
+import com.aihukuk.service.UserListingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Admin Controller
+ * 
+ * Ek özellik (JavaScript'te yoktu)
+ * 
+ * Endpoint'ler sadece admin.emails içindeki hesaplara açıktır (AdminAccess).
+ * 
+ * Endpoint'ler:
+ * - GET /v1/admin/users -> Kullanıcı listesi (keyset/cursor sayfalama)
+ */
+@RestController
+@RequestMapping("/v1/admin")
+@CrossOrigin(origins = "${cors.allowed-origins:http://localhost:3000}")
+@PreAuthorize("@adminAccess.isAdmin(authentication)")
+public class AdminController {
+
+    @Autowired
+    private UserListingService userListingService;
+
+    /**
+     * Kullanıcı listesi endpoint'i
+     * 
+     * Örnek: GET /v1/admin/users?status=active,suspended&sort=last_login&limit=50
+     * Sonraki sayfa: aynı parametreler + cursor={nextCursor}
+     * 
+     * @param status Virgülle ayrılmış status filtresi (varsayılan: active,suspended)
+     * @param sort Sıralama: created (kayıt tarihi, varsayılan) veya last_login (son giriş)
+     * @param cursor Önceki sayfanın nextCursor değeri
+     * @param limit Sayfa boyutu (varsayılan 50, en fazla 100)
+     * @return API Response with users, nextCursor and hasMore
+     */
+    @GetMapping("/users")
+    public ResponseEntity<ApiResponse<UserPageResponse>> listUsers(
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "created") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            UserPageResponse page = userListingService.listUsers(
+                    UserListingService.parseStatuses(status),
+                    UserListingService.SortKey.fromValue(sort),
+                    cursor,
+                    limit
+            );
+
+            return ResponseEntity.ok(
+                    ApiResponse.success("Kullanıcılar listelendi", page)
+            );
+
+        } catch (IllegalArgumentException e) {
+            // Geçersiz status, sıralama, cursor veya limit
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage(), "VALIDATION_ERROR"));
+
+        } catch (ServiceOverloadedException e) {
+            // Veritabanı erişilemez: GlobalExceptionHandler 503 + Retry-After döner
+            throw e;
+
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Kullanıcı listesi alınamadı", "USER_LIST_ERROR"));
+        }
+    }
+}
@@ -8,11 +8,20 @@ import com.aihukuk.dto.response.ApiResponse;
 import com.aihukuk.dto.response.AuthResponse;
 import com.aihukuk.dto.response.UserResponse;
 import com.aihukuk.entity.User;
+import com.aihukuk.exception.ServiceOverloadedException;
+import com.aihukuk.security.LoginAttemptGuard;
+import com.aihukuk.security.RefreshTokenStore;
+import com.aihukuk.security.TokenRevocationService;
 import com.aihukuk.service.UserService;
 import com.aihukuk.util.JwtUtil;
+import com.aihukuk.util.VerifiedAccessToken;
+import com.aihukuk.util.VerifiedRefreshToken;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -32,18 +41,30 @@ import java.util.Map;
  * - POST /v1/auth/refresh -> JavaScript router.post('/refresh')
  * - GET /v1/auth/profile -> JavaScript router.get('/profile')
  * - POST /v1/auth/logout -> JavaScript router.post('/logout')
+ * - POST /v1/auth/logout-all -> Tüm cihazlardan çıkış (ek özellik)
  */
 @RestController
 @RequestMapping("/v1/auth")
 @CrossOrigin(origins = "${cors.allowed-origins:http://localhost:3000}")
 public class AuthController {
 
+    private static final Logger logger = LoggerFactory.getLogger(AuthController.class);
+
     @Autowired
     private UserService userService;
 
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    private LoginAttemptGuard loginAttemptGuard;
+
     /**
      * Kullanıcı kayıt endpoint'i
      * JavaScript router.post('/register') metodunun karşılığı
@@ -63,11 +84,15 @@ public class AuthController {
 
             // JWT token'ları üret (JavaScript generateTokens karşılığı)
             String accessToken = jwtUtil.generateAccessToken(user);
-            String refreshToken = jwtUtil.generateRefreshToken(user);
+            String refreshToken = refreshTokenStore.issue(user);
 
             // Response oluştur (JavaScript response format'ı)
             UserResponse userResponse = new UserResponse(user);
-            AuthResponse authResponse = new AuthResponse(userResponse, accessToken, refreshToken);
+            AuthResponse authResponse = new AuthResponse(
+                    userResponse,
+                    new AuthResponse.TokenInfo(accessToken, refreshToken, (int) jwtUtil.getAccessTokenExpiresIn()),
+                    !user.getEmailVerified()
+            );
 
             // JavaScript: res.status(201).json({ success: true, message: "...", data: ... })
             return ResponseEntity.status(HttpStatus.CREATED)
@@ -86,6 +111,10 @@ public class AuthController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(ApiResponse.error(e.getMessage(), "VALIDATION_ERROR"));
 
+        } catch (ServiceOverloadedException e) {
+            // Şifre hash kuyruğu dolu veya veritabanı erişilemez: GlobalExceptionHandler 503 + Retry-After döner
+            throw e;
+
         } catch (Exception e) {
             // JavaScript catch block'un karşılığı
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -105,15 +134,30 @@ public class AuthController {
     public ResponseEntity<ApiResponse<AuthResponse>> login(@Valid @RequestBody LoginRequest request,
                                                           HttpServletRequest httpRequest) {
         try {
+            String clientIp = httpRequest.getRemoteAddr();
+
+            // Çok sayıda başarısız deneme varsa şifre kontrolüne (BCrypt) hiç girmeden reddet
+            long remainingBlockMs = loginAttemptGuard.getRemainingBlockMs(request.getEmail(), clientIp);
+            if (remainingBlockMs > 0) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, Long.toString((remainingBlockMs + 999) / 1000))
+                        .body(ApiResponse.error("Çok fazla başarısız giriş denemesi. Lütfen daha sonra tekrar deneyin.",
+                                "TOO_MANY_LOGIN_ATTEMPTS"));
+            }
+
             // Kullanıcı kimlik doğrulaması (JavaScript User.authenticate karşılığı)
             User user = userService.authenticateUser(request.getEmail(), request.getPassword());
             
             if (user == null) {
+                loginAttemptGuard.recordFailure(request.getEmail(), clientIp);
+
                 // JavaScript: return res.status(401).json({ success: false, message: "Email veya şifre hatalı" })
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(ApiResponse.error("Email veya şifre hatalı", "INVALID_CREDENTIALS"));
             }
 
+            loginAttemptGuard.recordSuccess(request.getEmail(), clientIp);
+
             // Email doğrulaması kontrolü (JavaScript'teki optional check)
             if (!user.getEmailVerified()) {
                 System.out.println("⚠️ User " + user.getEmail() + " logged in without email verification");
@@ -121,21 +165,28 @@ public class AuthController {
 
             // JWT token'ları üret (JavaScript generateTokens karşılığı)
             String accessToken = jwtUtil.generateAccessToken(user);
-            String refreshToken = jwtUtil.generateRefreshToken(user);
+            String refreshToken = refreshTokenStore.issue(user);
 
             // Başarılı giriş log'u (JavaScript console.log karşılığı)
-            String clientIp = httpRequest.getRemoteAddr();
             System.out.println("✅ User logged in: " + user.getEmail() + " from " + clientIp);
 
             // Response oluştur (JavaScript response format'ı)
             UserResponse userResponse = new UserResponse(user);
-            AuthResponse authResponse = new AuthResponse(userResponse, accessToken, refreshToken);
+            AuthResponse authResponse = new AuthResponse(
+                    userResponse,
+                    new AuthResponse.TokenInfo(accessToken, refreshToken, (int) jwtUtil.getAccessTokenExpiresIn()),
+                    !user.getEmailVerified()
+            );
 
             // JavaScript: res.json({ success: true, message: "Giriş başarılı", data: ... })
             return ResponseEntity.ok(
                     ApiResponse.success("Giriş başarılı", authResponse)
             );
 
+        } catch (ServiceOverloadedException e) {
+            // Şifre hash kuyruğu dolu veya veritabanı erişilemez: GlobalExceptionHandler 503 + Retry-After döner
+            throw e;
+
         } catch (Exception e) {
             // JavaScript catch block'un karşılığı
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -148,7 +199,7 @@ public class AuthController {
      * JavaScript router.post('/refresh') metodunun karşılığı
      * 
      * @param request Refresh token içeren request
-     * @return Yeni access token
+     * @return Yeni access token ve yeni refresh token (rotation)
      */
     @PostMapping("/refresh")
     public ResponseEntity<ApiResponse<Map<String, Object>>> refresh(@RequestBody Map<String, String> request) {
@@ -161,28 +212,53 @@ public class AuthController {
                         .body(ApiResponse.error("Refresh token gerekli", "REFRESH_TOKEN_REQUIRED"));
             }
 
-            // Refresh token doğrula (JavaScript verifyRefreshToken karşılığı)
-            if (!jwtUtil.validateRefreshToken(refreshToken)) {
+            // Refresh token'ı tek seferde doğrula (JavaScript verifyRefreshToken karşılığı)
+            VerifiedRefreshToken verifiedRefreshToken;
+            try {
+                verifiedRefreshToken = jwtUtil.verifyRefreshToken(refreshToken);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(ApiResponse.error("Geçersiz refresh token", "INVALID_REFRESH_TOKEN"));
+            }
+
+            // Logout ile iptal edilmiş refresh token'ları reddet
+            if (tokenRevocationService.isRevoked(verifiedRefreshToken.getTokenId(),
+                    verifiedRefreshToken.getUserId(), verifiedRefreshToken.getIssuedAt())) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(ApiResponse.error("Geçersiz refresh token", "INVALID_REFRESH_TOKEN"));
             }
 
-            // User ID'yi çıkar ve kullanıcıyı bul
-            Long userId = jwtUtil.extractUserIdFromRefreshToken(refreshToken);
-            User user = userService.findById(userId);
+            // User ID'yi çıkar ve kullanıcıyı bul (status kontrolü için primary'den)
+            Long userId = verifiedRefreshToken.getUserId();
+            User user = userService.findByIdForAuthentication(userId);
             
             if (user == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(ApiResponse.error("Geçersiz refresh token", "INVALID_REFRESH_TOKEN"));
             }
 
-            // Yeni access token üret (JavaScript generateTokens karşılığı)
+            // Askıya alınmış hesaplar yeni access token alamaz (JavaScript user.status !== 'active')
+            if (!user.isActive()) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(ApiResponse.error("Hesap askiya alinmis veya deaktif", "AUTH_003"));
+            }
+
+            // Refresh token rotation: gelen token kullanıldı sayılır, tekrar kullanımda aile iptal edilir
+            RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(verifiedRefreshToken);
+            if (!rotation.accepted()) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(ApiResponse.error("Refresh token daha önce kullanılmış", "REFRESH_TOKEN_REUSED"));
+            }
+
+            // Yeni token'ları üret (JavaScript generateTokens karşılığı)
             String newAccessToken = jwtUtil.generateAccessToken(user);
+            String newRefreshToken = refreshTokenStore.issue(user, rotation.familyId());
 
             // JavaScript response format'ı
             Map<String, Object> tokenData = Map.of(
                 "accessToken", newAccessToken,
-                "expiresIn", 3600,
+                "refreshToken", newRefreshToken,
+                "expiresIn", jwtUtil.getAccessTokenExpiresIn(),
                 "tokenType", "Bearer"
             );
 
@@ -190,6 +266,10 @@ public class AuthController {
                     ApiResponse.success("Token yenilendi", tokenData)
             );
 
+        } catch (ServiceOverloadedException e) {
+            // Veritabanı erişilemez: GlobalExceptionHandler 503 + Retry-After döner
+            throw e;
+
         } catch (Exception e) {
             // JavaScript catch block'un karşılığı
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -202,14 +282,19 @@ public class AuthController {
      * JavaScript router.get('/profile') metodunun karşılığı
      * 
      * @param authentication Spring Security authentication
+     * @param verifiedToken JWT filter'ının doğruladığı token
      * @return Kullanıcı profil bilgileri
      */
     @GetMapping("/profile")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> getProfile(Authentication authentication) {
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getProfile(
+            Authentication authentication,
+            @RequestAttribute(name = VerifiedAccessToken.REQUEST_ATTRIBUTE, required = false) VerifiedAccessToken verifiedToken) {
         try {
-            // Authentication'dan email al (JWT filter'ından gelir)
-            String email = authentication.getName();
-            User user = userService.findByEmail(email);
+            // Filter'ın doğruladığı token'daki userId ile primary key üzerinden bul
+            // (token tekrar parse edilmez, email ile arama yapılmaz)
+            User user = verifiedToken != null && verifiedToken.getUserId() != null
+                    ? userService.findById(verifiedToken.getUserId())
+                    : userService.findByEmail(authentication.getName());
 
             if (user == null) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -224,6 +309,10 @@ public class AuthController {
                     ApiResponse.success("Profil bilgileri alındı", profileData)
             );
 
+        } catch (ServiceOverloadedException e) {
+            // Veritabanı erişilemez: GlobalExceptionHandler 503 + Retry-After döner
+            throw e;
+
         } catch (Exception e) {
             // JavaScript catch block'un karşılığı
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -235,23 +324,43 @@ public class AuthController {
      * Çıkış endpoint'i
      * JavaScript router.post('/logout') metodunun karşılığı
      * 
+     * Kullanılan access token ve (gönderildiyse) refresh token iptal edilir.
+     * 
      * @param authentication Spring Security authentication
+     * @param verifiedToken JWT filter'ının doğruladığı token
+     * @param request Opsiyonel body: { refreshToken }
      * @return Çıkış onayı
      */
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Void>> logout(Authentication authentication) {
+    public ResponseEntity<ApiResponse<Void>> logout(
+            Authentication authentication,
+            @RequestAttribute(name = VerifiedAccessToken.REQUEST_ATTRIBUTE, required = false) VerifiedAccessToken verifiedToken,
+            @RequestBody(required = false) Map<String, String> request) {
         try {
             // JavaScript: console.log(`👋 User logged out: ${req.user.email}`);
             String email = authentication.getName();
             System.out.println("👋 User logged out: " + email);
 
-            // TODO: Token blacklisting implement et (JavaScript comment'te belirtilmiş)
+            // Token blacklisting (JavaScript comment'teki TODO)
+            if (verifiedToken != null) {
+                tokenRevocationService.revokeToken(verifiedToken.getTokenId(),
+                        verifiedToken.getUserId(), verifiedToken.getExpiration());
+
+                String refreshToken = request != null ? request.get("refreshToken") : null;
+                if (refreshToken != null && !refreshToken.isEmpty()) {
+                    revokeRefreshToken(refreshToken, verifiedToken.getUserId());
+                }
+            }
             
             // JavaScript: res.json({ success: true, message: "Başarıyla çıkış yapıldı" })
             return ResponseEntity.ok(
                     ApiResponse.success("Başarıyla çıkış yapıldı")
             );
 
+        } catch (ServiceOverloadedException e) {
+            // Veritabanı erişilemez: GlobalExceptionHandler 503 + Retry-After döner
+            throw e;
+
         } catch (Exception e) {
             // JavaScript catch block'un karşılığı
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -259,6 +368,43 @@ public class AuthController {
         }
     }
 
+    /**
+     * Tüm cihazlardan çıkış endpoint'i
+     * Ek özellik (JavaScript'te yoktu)
+     * 
+     * Kullanıcının şu ana kadar üretilmiş tüm access ve refresh token'ları iptal edilir.
+     * 
+     * @param authentication Spring Security authentication
+     * @param verifiedToken JWT filter'ının doğruladığı token
+     * @return Çıkış onayı
+     */
+    @PostMapping("/logout-all")
+    public ResponseEntity<ApiResponse<Void>> logoutAll(
+            Authentication authentication,
+            @RequestAttribute(name = VerifiedAccessToken.REQUEST_ATTRIBUTE, required = false) VerifiedAccessToken verifiedToken) {
+        try {
+            if (verifiedToken == null || verifiedToken.getUserId() == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(ApiResponse.error("Geçersiz token", "AUTH_004"));
+            }
+
+            tokenRevocationService.revokeAllForUser(verifiedToken.getUserId());
+            logger.info("User {} logged out from all devices", verifiedToken.getUserId());
+
+            return ResponseEntity.ok(
+                    ApiResponse.success("Tüm cihazlardan çıkış yapıldı")
+            );
+
+        } catch (ServiceOverloadedException e) {
+            // Veritabanı erişilemez: GlobalExceptionHandler 503 + Retry-After döner
+            throw e;
+
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Çıkış işlemi sırasında hata oluştu", "LOGOUT_ERROR"));
+        }
+    }
+
     /**
      * Test endpoint (opsiyonel - development için)
      * JavaScript'te yoktu, debug için eklendi
@@ -277,4 +423,22 @@ public class AuthController {
                 ApiResponse.success("Test başarılı", testData)
         );
     }
+
+    /**
+     * Refresh token'ı iptal et (sadece aynı kullanıcıya aitse)
+     * 
+     * @param refreshToken Refresh token
+     * @param userId Çıkış yapan kullanıcının ID'si
+     */
+    private void revokeRefreshToken(String refreshToken, Long userId) {
+        try {
+            VerifiedRefreshToken verifiedRefreshToken = jwtUtil.verifyRefreshToken(refreshToken);
+            if (userId != null && userId.equals(verifiedRefreshToken.getUserId())) {
+                tokenRevocationService.revokeToken(verifiedRefreshToken.getTokenId(),
+                        verifiedRefreshToken.getUserId(), verifiedRefreshToken.getExpiration());
+            }
+        } catch (IllegalArgumentException e) {
+            // Geçersiz veya süresi dolmuş refresh token için yapılacak bir şey yok
+        }
+    }
 }
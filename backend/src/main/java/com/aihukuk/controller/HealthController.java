@@ -3,6 +3,7 @@
 package com.aihukuk.controller;
 
 import com.aihukuk.dto.response.ApiResponse;
+import com.aihukuk.service.HealthProber;
 import com.aihukuk.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -11,8 +12,6 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import javax.sql.DataSource;
-import java.sql.Connection;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -26,13 +25,17 @@ import java.util.Map;
  * - GET /v1/health -> JavaScript router.get('/')
  * - GET /v1/health/status -> JavaScript router.get('/status') 
  * - GET /v1/health/db -> JavaScript router.get('/db')
+ * 
+ * Endpoint'ler veritabanına gitmez; HealthProber'ın arka planda yenilediği snapshot'ı
+ * ve bellekteki kullanıcı istatistiklerini döndürür. Bir havuzun devre kesicisi açıksa
+ * durum "degraded" olarak raporlanır.
  */
 @RestController
 @RequestMapping("/v1/health")
 public class HealthController {
 
     @Autowired
-    private DataSource dataSource;
+    private HealthProber healthProber;
 
     @Autowired
     private UserService userService;
@@ -55,22 +58,22 @@ public class HealthController {
             healthStatus.put("java", System.getProperty("java.version"));
             healthStatus.put("environment", getActiveProfile());
 
+            HealthProber.HealthSnapshot snapshot = healthProber.getSnapshot();
+
             // Memory bilgileri (JavaScript memory object'i)
             Map<String, Object> memory = new HashMap<>();
-            Runtime runtime = Runtime.getRuntime();
-            memory.put("used", (runtime.totalMemory() - runtime.freeMemory()) / 1024 / 1024); // MB
-            memory.put("total", runtime.totalMemory() / 1024 / 1024); // MB
-            memory.put("max", runtime.maxMemory() / 1024 / 1024); // MB
-            memory.put("free", runtime.freeMemory() / 1024 / 1024); // MB
+            snapshot.memory().forEach((key, bytes) -> memory.put(key, ((Long) bytes) / 1024 / 1024)); // MB
             healthStatus.put("memory", memory);
 
-            // Database durumu (JavaScript database check)
+            // Database durumu (JavaScript database check) - son probe sonucu
             Map<String, Object> database = new HashMap<>();
-            boolean dbConnected = testDatabaseConnection();
+            boolean dbConnected = healthProber.isHealthy();
             database.put("connected", dbConnected);
+            database.put("checkedAt", snapshot.checkedAt());
+            database.put("openCircuits", snapshot.openCircuits());
             
             if (dbConnected) {
-                database.put("stats", getDatabaseStats());
+                database.put("stats", getDatabaseStats(snapshot));
             } else {
                 database.put("stats", null);
             }
@@ -79,7 +82,10 @@ public class HealthController {
             // JavaScript: const httpStatus = dbConnected ? 200 : 503;
             HttpStatus httpStatus = dbConnected ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
             
-            if (!dbConnected) {
+            // Devre açıkken istekler hızlı 503 alıyor: düğüm ayakta ama kısıtlı
+            if (healthProber.isDegraded()) {
+                healthStatus.put("status", "degraded");
+            } else if (!dbConnected) {
                 healthStatus.put("status", "unhealthy");
             }
 
@@ -122,31 +128,29 @@ public class HealthController {
             server.put("javaVersion", System.getProperty("java.version"));
             status.put("server", server);
 
-            // Database durumu
+            // Database durumu - son probe sonucu
+            HealthProber.HealthSnapshot snapshot = healthProber.getSnapshot();
             Map<String, Object> database = new HashMap<>();
-            boolean dbConnected = testDatabaseConnection();
+            boolean dbConnected = healthProber.isHealthy();
             database.put("connected", dbConnected);
+            database.put("checkedAt", snapshot.checkedAt());
+            database.put("openCircuits", snapshot.openCircuits());
             
             if (dbConnected) {
-                database.put("stats", getDatabaseStats());
+                database.put("stats", getDatabaseStats(snapshot));
             }
             status.put("database", database);
 
             // Memory bilgileri (JavaScript memory object'inin detaylısı)
-            Runtime runtime = Runtime.getRuntime();
             Map<String, Object> memory = new HashMap<>();
-            memory.put("heapTotal", runtime.totalMemory());
-            memory.put("heapUsed", runtime.totalMemory() - runtime.freeMemory());
-            memory.put("heapFree", runtime.freeMemory());
-            memory.put("heapMax", runtime.maxMemory());
+            memory.put("heapTotal", snapshot.memory().get("total"));
+            memory.put("heapUsed", snapshot.memory().get("used"));
+            memory.put("heapFree", snapshot.memory().get("free"));
+            memory.put("heapMax", snapshot.memory().get("max"));
             status.put("memory", memory);
 
-            // User istatistikleri (JavaScript users object'i)
-            Map<String, Object> users = null;
-            if (dbConnected) {
-                users = userService.getUserStats();
-            }
-            status.put("users", users);
+            // User istatistikleri (JavaScript users object'i) - bellekteki sayaçlar
+            status.put("users", userService.getUserStats());
 
             // JavaScript: res.json({ success: true, data: status })
             return ResponseEntity.ok(ApiResponse.success("Status retrieved", status));
@@ -167,14 +171,19 @@ public class HealthController {
     @GetMapping("/db")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getDatabaseHealth() {
         try {
-            boolean connected = testDatabaseConnection();
-            Map<String, Object> stats = connected ? getDatabaseStats() : null;
-
-            Map<String, Object> dbHealth = Map.of(
-                "connected", connected,
-                "stats", stats,
-                "timestamp", LocalDateTime.now()
-            );
+            HealthProber.HealthSnapshot snapshot = healthProber.getSnapshot();
+            boolean connected = healthProber.isHealthy();
+
+            // Map.of null değer kabul etmez (stats, checkedAt, error)
+            Map<String, Object> dbHealth = new HashMap<>();
+            dbHealth.put("connected", connected);
+            dbHealth.put("degraded", healthProber.isDegraded());
+            dbHealth.put("stats", connected ? getDatabaseStats(snapshot) : null);
+            dbHealth.put("latencyMs", snapshot.dbLatencyMs());
+            dbHealth.put("pools", snapshot.pools()); // Havuz başına acquire/usage süreleri, devre kesici, doygunlukta bağlantı tutan kod noktaları
+            dbHealth.put("error", snapshot.dbError());
+            dbHealth.put("checkedAt", snapshot.checkedAt());
+            dbHealth.put("timestamp", LocalDateTime.now());
 
             // JavaScript: res.json({ success: true, data: { connected, stats, timestamp } })
             return ResponseEntity.ok(ApiResponse.success("Database health checked", dbHealth));
@@ -188,29 +197,20 @@ public class HealthController {
 
     // Helper Methods
 
-    /**
-     * Database bağlantı testi
-     * JavaScript testConnection() metodunun karşılığı
-     */
-    private boolean testDatabaseConnection() {
-        try (Connection connection = dataSource.getConnection()) {
-            return connection != null && !connection.isClosed();
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
     /**
      * Database istatistikleri
      * JavaScript getDatabaseStats() metodunun karşılığı
      */
-    private Map<String, Object> getDatabaseStats() {
+    private Map<String, Object> getDatabaseStats(HealthProber.HealthSnapshot snapshot) {
         try {
-            // Bu bilgiler HikariCP connection pool'dan alınabilir
+            // Havuz değerleri son probe anındaki HikariCP durumudur
             Map<String, Object> stats = new HashMap<>();
-            stats.put("connectionPoolActive", "N/A"); // HikariCP integration gerekli
-            stats.put("connectionPoolIdle", "N/A");
-            stats.put("connectionPoolTotal", "N/A");
+            stats.put("connectionPoolActive", snapshot.pool().getOrDefault("active", "N/A"));
+            stats.put("connectionPoolIdle", snapshot.pool().getOrDefault("idle", "N/A"));
+            stats.put("connectionPoolTotal", snapshot.pool().getOrDefault("total", "N/A"));
+            stats.put("connectionPoolMax", snapshot.pool().getOrDefault("max", "N/A"));
+            stats.put("connectionPoolWaiting", snapshot.pool().getOrDefault("waiting", "N/A"));
+            stats.put("latencyMs", snapshot.dbLatencyMs());
             stats.put("userCount", userService.countActiveUsers());
             
             return stats;
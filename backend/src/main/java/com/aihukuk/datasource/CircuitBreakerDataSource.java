@@ -0,0 +1,183 @@
+// 🔌 Circuit Breaker DataSource - Veritabanı takıldığında bağlantı isteklerini hızlı reddet
+
+package com.aihukuk.datasource;
+
+import com.aihukuk.exception.DatabaseUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Devre Kesici DataSource
+ *
+ * Ek özellik (JavaScript'te yoktu - JavaScript acquireTimeout boyunca beklerdi)
+ *
+ * MySQL takıldığında her istek thread'i havuzda connection-timeout kadar bekliyor ve
+ * Tomcat thread'leri tükeniyordu. Bağlantı alma bu sınıf üzerinden yapılır:
+ * - CLOSED: bağlantı havuzdan alınır; failure-threshold ardışık alma hatasında devre açılır
+ * - OPEN: bağlantı istenmeden DatabaseUnavailableException fırlatılır (503 + Retry-After)
+ * - HALF_OPEN: open-duration-ms dolunca tek bir istek (genelde health probe) deneme yapar;
+ *   başarılıysa devre kapanır, başarısızsa tekrar açılır. Deneme sürerken diğer istekler
+ *   hızlı reddedilir
+ *
+ * Alma hatası (zaman aşımı, bağlantı reddi) da DatabaseUnavailableException'a çevrilir;
+ * çağıran taraf hata tipine bakmadan 503 döner. Her havuzun kendi devre kesicisi vardır,
+ * reporting havuzunun doygunluğu auth havuzunun devresini açmaz.
+ */
+public class CircuitBreakerDataSource extends DelegatingDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreakerDataSource.class);
+
+    /**
+     * Devre durumu
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationMs;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile long openedAtMillis;
+
+    /**
+     * @param targetDataSource Sarılan havuz
+     * @param name Havuz adı (log ve health snapshot için)
+     * @param failureThreshold Devreyi açan ardışık alma hatası sayısı
+     * @param openDurationMs Devrenin deneme yapılmadan açık kaldığı süre
+     */
+    public CircuitBreakerDataSource(DataSource targetDataSource, String name,
+                                    int failureThreshold, long openDurationMs) {
+        super(targetDataSource);
+        this.name = name;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDurationMs = openDurationMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        boolean trial = acquirePermission();
+        try {
+            Connection connection = obtainTargetDataSource().getConnection();
+            onSuccess(trial);
+            return connection;
+        } catch (SQLException | RuntimeException e) {
+            onFailure(trial, e);
+            throw new DatabaseUnavailableException("Veritabanına şu an erişilemiyor", retryAfterSeconds(), e);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        boolean trial = acquirePermission();
+        try {
+            Connection connection = obtainTargetDataSource().getConnection(username, password);
+            onSuccess(trial);
+            return connection;
+        } catch (SQLException | RuntimeException e) {
+            onFailure(trial, e);
+            throw new DatabaseUnavailableException("Veritabanına şu an erişilemiyor", retryAfterSeconds(), e);
+        }
+    }
+
+    /**
+     * Devrenin o anki durumu
+     */
+    public State getState() {
+        return state.get();
+    }
+
+    /**
+     * Health snapshot'ı için durum özeti
+     *
+     * @return state, consecutiveFailures, rejected ve açıksa openedForMs
+     */
+    public Map<String, Object> describe() {
+        State current = state.get();
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("state", current.name());
+        description.put("consecutiveFailures", consecutiveFailures.get());
+        description.put("rejected", rejected.get());
+        if (current != State.CLOSED) {
+            description.put("openedForMs", System.currentTimeMillis() - openedAtMillis);
+        }
+        return description;
+    }
+
+    // Helper Methods
+
+    /**
+     * Bağlantı almaya izin var mı; açık devrede süre dolduysa bu çağrı deneme olur
+     *
+     * @return Bu çağrı half-open denemesi mi
+     */
+    private boolean acquirePermission() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return false;
+        }
+
+        // Süre dolduysa deneme hakkını tek bir thread alır (CAS)
+        if (current == State.OPEN &&
+            System.currentTimeMillis() - openedAtMillis >= openDurationMs &&
+            state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+            logger.info("DB circuit [{}] half-open, trying one connection", name);
+            return true;
+        }
+
+        rejected.incrementAndGet();
+        throw new DatabaseUnavailableException("Veritabanına şu an erişilemiyor", retryAfterSeconds());
+    }
+
+    private void onSuccess(boolean trial) {
+        consecutiveFailures.set(0);
+        if (trial && state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+            logger.info("DB circuit [{}] closed", name);
+        }
+    }
+
+    private void onFailure(boolean trial, Exception e) {
+        int failures = consecutiveFailures.incrementAndGet();
+
+        if (trial) {
+            open(State.HALF_OPEN, e);
+        } else if (failures >= failureThreshold) {
+            open(State.CLOSED, e);
+        }
+    }
+
+    private void open(State from, Exception e) {
+        // Süre, devreyi açan thread tarafından başlatılır
+        if (state.get() == from) {
+            openedAtMillis = System.currentTimeMillis();
+        }
+        if (state.compareAndSet(from, State.OPEN)) {
+            logger.warn("DB circuit [{}] opened after {} consecutive failures: {}",
+                    name, consecutiveFailures.get(), e.getMessage());
+        }
+    }
+
+    /**
+     * Devre tekrar denenene kadar kalan süre (en az 1 saniye)
+     */
+    private long retryAfterSeconds() {
+        long remainingMs = openDurationMs;
+        if (state.get() != State.CLOSED) {
+            remainingMs = Math.max(0, openDurationMs - (System.currentTimeMillis() - openedAtMillis));
+        }
+        return Math.max(1, (remainingMs + 999) / 1000);
+    }
+}
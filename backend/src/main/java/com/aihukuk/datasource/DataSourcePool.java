@@ -0,0 +1,20 @@
+// 🗄️ DataSource Pool - Bağlantı havuzu türleri
+
+package com.aihukuk.datasource;
+
+/**
+ * Bağlantı havuzları (bulkhead)
+ *
+ * Ek özellik (JavaScript'te yoktu - tek mysql2 pool yerine ayrı havuzlar)
+ *
+ * - AUTH: login, token doğrulama ve kullanıcı yazmaları; küçük ve düşük gecikmeli
+ *   (spring.datasource.hikari)
+ * - REPORTING: istatistik, listeleme, admin ve arka plan işleri
+ *   (datasource-pools.reporting)
+ *
+ * Yavaş bir aggregate sorgu sadece REPORTING havuzunu doldurabilir; login'ler etkilenmez.
+ */
+public enum DataSourcePool {
+    AUTH,
+    REPORTING
+}
@@ -0,0 +1,40 @@
+// 🗄️ DataSource Pool Context - Thread'in kullanacağı bağlantı havuzu
+
+package com.aihukuk.datasource;
+
+/**
+ * Geçerli thread için seçilmiş bağlantı havuzu
+ *
+ * DataSourcePoolInterceptor tarafından @UseDataSourcePool metodları süresince ayarlanır,
+ * PoolRoutingDataSource tarafından bağlantı alınırken okunur.
+ */
+public final class DataSourcePoolContext {
+
+    private static final ThreadLocal<DataSourcePool> CURRENT = new ThreadLocal<>();
+
+    private DataSourcePoolContext() {
+    }
+
+    /**
+     * Seçili havuz; seçim yoksa null (varsayılan havuz kullanılır)
+     */
+    public static DataSourcePool current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Havuzu ayarla
+     *
+     * @param pool Yeni havuz (null: varsayılan)
+     * @return Önceki havuz (geri yüklemek için)
+     */
+    static DataSourcePool set(DataSourcePool pool) {
+        DataSourcePool previous = CURRENT.get();
+        if (pool != null) {
+            CURRENT.set(pool);
+        } else {
+            CURRENT.remove();
+        }
+        return previous;
+    }
+}
@@ -0,0 +1,59 @@
+// 🗄️ DataSource Pool Interceptor - @UseDataSourcePool metodlarında havuz seçimi
+
+package com.aihukuk.datasource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * @UseDataSourcePool metodları süresince DataSourcePoolContext'i ayarlar
+ *
+ * Transaction interceptor'ından önce çalışmalıdır (DataSourceConfig advisor sırası);
+ * transaction başlarken alınan bağlantı seçilen havuzdan gelir.
+ */
+public class DataSourcePoolInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        UseDataSourcePool annotation = findAnnotation(invocation);
+        if (annotation == null) {
+            return invocation.proceed();
+        }
+
+        DataSourcePool previous = DataSourcePoolContext.set(annotation.value());
+        try {
+            return invocation.proceed();
+        } finally {
+            DataSourcePoolContext.set(previous);
+        }
+    }
+
+    // Helper Methods
+
+    private static UseDataSourcePool findAnnotation(MethodInvocation invocation) {
+        Method method = invocation.getMethod();
+
+        UseDataSourcePool annotation = AnnotatedElementUtils.findMergedAnnotation(method, UseDataSourcePool.class);
+        if (annotation != null) {
+            return annotation;
+        }
+
+        Object target = invocation.getThis();
+        if (target != null) {
+            Class<?> targetClass = AopUtils.getTargetClass(target);
+            Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+            annotation = AnnotatedElementUtils.findMergedAnnotation(specificMethod, UseDataSourcePool.class);
+            if (annotation == null) {
+                annotation = AnnotatedElementUtils.findMergedAnnotation(targetClass, UseDataSourcePool.class);
+            }
+        }
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(method.getDeclaringClass(), UseDataSourcePool.class);
+        }
+        return annotation;
+    }
+}
@@ -0,0 +1,34 @@
+// 🔌 Fail-Fast JPA Transaction Manager - Veritabanı erişilemezken 503'ü koruyan transaction manager
+
+package com.aihukuk.datasource;
+
+import com.aihukuk.exception.DatabaseUnavailableException;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionDefinition;
+
+/**
+ * JpaTransactionManager
+ *
+ * Ek özellik (JavaScript'te yoktu)
+ *
+ * JpaTransactionManager transaction başlatırken alınan her hatayı
+ * CannotCreateTransactionException ile sarar. Bağlantı devre kesici tarafından
+ * reddedildiyse (DatabaseUnavailableException) sarmalayıcı açılır; controller'lar ve
+ * GlobalExceptionHandler hatayı 500 yerine 503 + Retry-After olarak döndürür.
+ */
+public class FailFastJpaTransactionManager extends JpaTransactionManager {
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        try {
+            super.doBegin(transaction, definition);
+        } catch (CannotCreateTransactionException e) {
+            DatabaseUnavailableException unavailable = DatabaseUnavailableException.findIn(e);
+            if (unavailable != null) {
+                throw unavailable;
+            }
+            throw e;
+        }
+    }
+}
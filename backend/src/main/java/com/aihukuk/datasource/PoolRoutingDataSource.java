@@ -0,0 +1,30 @@
+// 🗄️ Pool Routing DataSource - @UseDataSourcePool seçimine göre havuz yönlendirme
+
+package com.aihukuk.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Havuz yönlendiren DataSource
+ *
+ * Ek özellik (JavaScript'te yoktu)
+ *
+ * Bağlantı, DataSourcePoolContext'teki havuzdan alınır; seçim yoksa AUTH havuzu kullanılır.
+ * JPA, JdbcTemplate ve health prober bu DataSource'u kullanır.
+ */
+public class PoolRoutingDataSource extends AbstractRoutingDataSource {
+
+    public PoolRoutingDataSource(Map<DataSourcePool, DataSource> pools) {
+        setTargetDataSources(Map.copyOf(pools));
+        setDefaultTargetDataSource(pools.get(DataSourcePool.AUTH));
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return DataSourcePoolContext.current();
+    }
+}
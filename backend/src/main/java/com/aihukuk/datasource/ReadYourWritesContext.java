@@ -0,0 +1,41 @@
+// 🗄️ Read-Your-Writes Context - İsteği yapan kullanıcı (replica yönlendirmesi için)
+
+package com.aihukuk.datasource;
+
+/**
+ * Geçerli thread'in işlediği isteğin kullanıcısı
+ *
+ * JwtAuthenticationFilter token doğrulandıktan sonra istek süresince ayarlar;
+ * ReplicaRoutingDataSource read-only bağlantı alırken kullanıcının yakın zamanda
+ * yazma yapıp yapmadığını (ReadYourWritesTracker) bu id ile sorar.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Long> CURRENT_USER = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    /**
+     * İsteği yapan kullanıcının id'si; kimliksiz isteklerde null
+     */
+    public static Long currentUserId() {
+        return CURRENT_USER.get();
+    }
+
+    /**
+     * Kullanıcıyı ayarla
+     *
+     * @param userId Kullanıcı id'si (null: temizle)
+     * @return Önceki kullanıcı (geri yüklemek için)
+     */
+    public static Long bind(Long userId) {
+        Long previous = CURRENT_USER.get();
+        if (userId != null) {
+            CURRENT_USER.set(userId);
+        } else {
+            CURRENT_USER.remove();
+        }
+        return previous;
+    }
+}
@@ -0,0 +1,83 @@
+// 🗄️ Read-Your-Writes Tracker - Yazma yapan kullanıcının okumalarını primary'de tut
+
+package com.aihukuk.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Read-Your-Writes Tracker
+ *
+ * Ek özellik (JavaScript'te yoktu - read replica yönlendirmesi)
+ *
+ * Replica'lar primary'nin gerisinde kalabilir; kayıt olan bir kullanıcının hemen
+ * ardından gelen profil isteği replica'dan okunursa kullanıcı bulunamaz. Kendi
+ * verisini değiştiren kullanıcının read-only okumaları sticky-ms boyunca primary'ye
+ * gider (UserService yazma metodları markWritten çağırır).
+ *
+ * Kayıtlar bu node'un belleğindedir; istekleri başka node'a düşen kullanıcı için
+ * sınır datasource-replicas.max-lag-ms'dir.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    @Value("${datasource-replicas.sticky-ms:5000}")
+    private long stickyMs;
+
+    @Value("${datasource-replicas.sticky-maximum-size:100000}")
+    private long maximumSize;
+
+    // userId -> son yazma zamanı; sticky-ms sonra kendiliğinden silinir
+    private Cache<Long, Long> lastWrites;
+
+    @PostConstruct
+    void init() {
+        lastWrites = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(stickyMs))
+                .build();
+    }
+
+    /**
+     * Kullanıcının verisi yazıldı; okumaları sticky-ms boyunca primary'ye gider
+     * Transaction varsa süre commit'ten itibaren yeniden başlatılır.
+     *
+     * @param userId Verisi değişen kullanıcı
+     */
+    public void markWritten(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        lastWrites.put(userId, System.currentTimeMillis());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    lastWrites.put(userId, System.currentTimeMillis());
+                }
+            });
+        }
+    }
+
+    /**
+     * Kullanıcı sticky-ms içinde yazma yaptı mı
+     */
+    public boolean isSticky(Long userId) {
+        return userId != null && lastWrites.getIfPresent(userId) != null;
+    }
+
+    /**
+     * Şu an primary'ye sabitlenmiş kullanıcı sayısı (yaklaşık)
+     */
+    public long getStickyCount() {
+        return lastWrites.estimatedSize();
+    }
+}
@@ -0,0 +1,43 @@
+// 🗄️ Replica DataSources - Read replica HikariCP havuzları
+
+package com.aihukuk.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Read replica havuzları
+ *
+ * Ek özellik (JavaScript'te yoktu)
+ *
+ * Replica sayısı yapılandırmaya (datasource-replicas.urls) bağlı olduğundan havuzlar tek
+ * tek bean değildir; bu bean onları tutar ve uygulama kapanırken kapatır.
+ * datasource-replicas.enabled false ise boştur.
+ */
+public class ReplicaDataSources implements AutoCloseable {
+
+    private final Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+
+    public void add(String name, HikariDataSource pool) {
+        pools.put(name, pool);
+    }
+
+    /**
+     * Replica adı -> havuz
+     */
+    public Map<String, HikariDataSource> getPools() {
+        return Collections.unmodifiableMap(pools);
+    }
+
+    public boolean isEmpty() {
+        return pools.isEmpty();
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,193 @@
+// 🗄️ Replica Routing DataSource - Read-only transaction'ları replica havuzlarına yönlendirme
+
+package com.aihukuk.datasource;
+
+import com.aihukuk.exception.DatabaseUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Replica yönlendiren DataSource
+ *
+ * Ek özellik (JavaScript'te yoktu)
+ *
+ * Bağlantı read-only bir transaction içinde (@Transactional(readOnly = true)) istenirse
+ * replica havuzlarından biri (round-robin), aksi halde primary (PoolRoutingDataSource)
+ * kullanılır. Replica seçilmez, okuma primary'ye düşer:
+ * - Replica gecikmesi (ReplicaLagMonitor heartbeat'i) max-lag-ms'yi aştıysa veya ölçülemediyse
+ * - Replica'nın devre kesicisi kapalı değilse veya bağlantı alınamadıysa
+ * - İsteği yapan kullanıcı sticky-ms içinde kendi verisini yazdıysa (ReadYourWritesTracker)
+ *
+ * Güvenlik kararı veren okumalar (login'de kullanıcı arama, token yenilemede hesap durumu)
+ * read-write transaction'da yapılır ve her zaman primary'ye gider.
+ *
+ * Transaction'ın read-only bilgisi bağlantı alınırken hazır olmalıdır; bu yüzden
+ * DataSourceConfig bu sınıfı LazyConnectionDataSourceProxy ile sarar (fiziksel
+ * bağlantı ilk SQL'de alınır).
+ */
+public class ReplicaRoutingDataSource extends DelegatingDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final Map<String, Replica> replicas = new LinkedHashMap<>();
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final long maxLagMs;
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final AtomicLong replicaReads = new AtomicLong();
+    private final AtomicLong primaryReads = new AtomicLong();
+    private final AtomicLong stickyReads = new AtomicLong();
+
+    /**
+     * Replica havuzu ve son ölçülen gecikmesi (-1: bilinmiyor / erişilemez)
+     */
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private final CircuitBreakerDataSource circuitBreaker;
+        private volatile long lagMs = -1;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.circuitBreaker = dataSource instanceof CircuitBreakerDataSource breaker ? breaker : null;
+        }
+    }
+
+    /**
+     * @param primary Yazmalar ve read-write transaction'lar için DataSource
+     * @param replicaDataSources Replica adı -> replica havuzu
+     * @param readYourWritesTracker Yakın zamanda yazma yapan kullanıcılar
+     * @param maxLagMs Okuma için kabul edilen en fazla replica gecikmesi
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicaDataSources,
+                                    ReadYourWritesTracker readYourWritesTracker, long maxLagMs) {
+        super(primary);
+        replicaDataSources.forEach((name, dataSource) -> replicas.put(name, new Replica(name, dataSource)));
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.maxLagMs = maxLagMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = selectReplica();
+        if (replica != null) {
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replicaReads.incrementAndGet();
+                return connection;
+            } catch (SQLException | DatabaseUnavailableException e) {
+                // Bir sonraki gecikme ölçümüne kadar bu replica kullanılmaz
+                replica.lagMs = -1;
+                logger.warn("Replica {} unavailable, reading from primary: {}", replica.name, e.getMessage());
+            }
+        }
+        return obtainTargetDataSource().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return obtainTargetDataSource().getConnection(username, password);
+    }
+
+    /**
+     * Replica adı -> replica havuzu (gecikme ölçümü ve health snapshot için)
+     */
+    public Map<String, DataSource> getReplicas() {
+        Map<String, DataSource> result = new LinkedHashMap<>();
+        replicas.forEach((name, replica) -> result.put(name, replica.dataSource));
+        return result;
+    }
+
+    /**
+     * Replica'nın son ölçülen gecikmesini kaydet
+     *
+     * @param name Replica adı
+     * @param lagMs Gecikme (ms); ölçülemediyse -1
+     */
+    public void updateLag(String name, long lagMs) {
+        Replica replica = replicas.get(name);
+        if (replica != null) {
+            replica.lagMs = lagMs;
+        }
+    }
+
+    /**
+     * Replica'nın okuma durumu
+     *
+     * @return lagMs ve available
+     */
+    public Map<String, Object> describe(String name) {
+        Replica replica = replicas.get(name);
+        if (replica == null) {
+            return Map.of();
+        }
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("lagMs", replica.lagMs);
+        description.put("available", isAvailable(replica));
+        return description;
+    }
+
+    /**
+     * Read-only okumaların dağılımı
+     *
+     * @return replicaReads, primaryReads (gecikme/erişilemezlik nedeniyle) ve stickyReads
+     */
+    public Map<String, Object> describeReads() {
+        Map<String, Object> reads = new LinkedHashMap<>();
+        reads.put("replicaReads", replicaReads.get());
+        reads.put("primaryReads", primaryReads.get());
+        reads.put("stickyReads", stickyReads.get());
+        reads.put("stickyUsers", readYourWritesTracker.getStickyCount());
+        return reads;
+    }
+
+    // Helper Methods
+
+    /**
+     * Bu bağlantı için replica; primary kullanılacaksa null
+     */
+    private Replica selectReplica() {
+        if (replicas.isEmpty() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return null;
+        }
+
+        if (readYourWritesTracker.isSticky(ReadYourWritesContext.currentUserId())) {
+            stickyReads.incrementAndGet();
+            return null;
+        }
+
+        List<Replica> candidates = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas.values()) {
+            if (isAvailable(replica)) {
+                candidates.add(replica);
+            }
+        }
+        if (candidates.isEmpty()) {
+            primaryReads.incrementAndGet();
+            return null;
+        }
+        return candidates.get(Math.floorMod(nextReplica.getAndIncrement(), candidates.size()));
+    }
+
+    private boolean isAvailable(Replica replica) {
+        long lagMs = replica.lagMs;
+        if (lagMs < 0 || lagMs > maxLagMs) {
+            return false;
+        }
+        return replica.circuitBreaker == null ||
+               replica.circuitBreaker.getState() == CircuitBreakerDataSource.State.CLOSED;
+    }
+}
@@ -0,0 +1,169 @@
+// 🔍 Tracking DataSource - Havuzdan bağlantı alan thread'lerin takibi
+
+package com.aihukuk.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tracking DataSource
+ *
+ * Ek özellik (JavaScript'te yoktu - havuz doygunluğu teşhisi)
+ *
+ * Havuzdan alınan her bağlantı için bağlantıyı alan thread ve alınma zamanı tutulur,
+ * bağlantı kapatılınca (havuza dönünce) kayıt silinir. Sıcak yolda stack trace
+ * alınmaz; teşhis istendiğinde bağlantı tutan thread'lerin o anki stack'i okunur ve
+ * ilk uygulama frame'ine (com.aihukuk) göre gruplanır. Böylece havuz doyduğunda
+ * bağlantıların kodun neresinde tutulduğu görülür (ör. transaction içinde BCrypt).
+ *
+ * Bağlantı üzerindeki her JDBC çağrısı proxy'den geçtiği için varsayılan olarak kapalıdır
+ * (db-diagnostics.track-holders, development profilinde açık). Kayıtlar proxy'ye weak
+ * referansla bağlıdır; kapatılmadan bırakılan bir bağlantının kaydı proxy'si toplanınca
+ * silinir, tablo sızan bağlantılarla büyümez.
+ */
+public class TrackingDataSource extends DelegatingDataSource {
+
+    private static final String APPLICATION_PACKAGE = "com.aihukuk.";
+
+    // Weak key: kimlik (==) karşılaştırması, proxy toplanınca kayıt silinir
+    private final Cache<Connection, Holder> holders = Caffeine.newBuilder().weakKeys().build();
+
+    /**
+     * Bağlantıyı tutan thread ve alınma zamanı
+     */
+    private record Holder(Thread thread, long acquiredAtNanos) {
+    }
+
+    public TrackingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    /**
+     * Şu an bağlantı tutan thread sayısı
+     */
+    public int getHeldCount() {
+        holders.cleanUp();
+        return (int) holders.estimatedSize();
+    }
+
+    /**
+     * Bağlantı tutan thread'lerin bulunduğu kod noktaları, en kalabalık önce
+     *
+     * @param limit En fazla kaç nokta döneceği
+     * @return site, count ve en uzun tutma süresi (oldestHeldMs)
+     */
+    public List<Map<String, Object>> getTopHoldingSites(int limit) {
+        long now = System.nanoTime();
+        Map<String, long[]> sites = new HashMap<>(); // site -> {count, oldestHeldMs}
+
+        for (Holder holder : holders.asMap().values()) {
+            String site = holdingSite(holder.thread().getStackTrace());
+            long heldMs = (now - holder.acquiredAtNanos()) / 1_000_000;
+
+            long[] stats = sites.computeIfAbsent(site, key -> new long[2]);
+            stats[0]++;
+            stats[1] = Math.max(stats[1], heldMs);
+        }
+
+        List<Map.Entry<String, long[]>> sorted = new ArrayList<>(sites.entrySet());
+        sorted.sort(Comparator.comparingLong((Map.Entry<String, long[]> entry) -> entry.getValue()[0]).reversed());
+
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (Map.Entry<String, long[]> entry : sorted.subList(0, Math.min(limit, sorted.size()))) {
+            Map<String, Object> site = new LinkedHashMap<>();
+            site.put("site", entry.getKey());
+            site.put("count", entry.getValue()[0]);
+            site.put("oldestHeldMs", entry.getValue()[1]);
+            result.add(site);
+        }
+        return result;
+    }
+
+    // Helper Methods
+
+    private Connection track(Connection connection) {
+        Connection proxy = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                new TrackingHandler(connection));
+
+        holders.put(proxy, new Holder(Thread.currentThread(), System.nanoTime()));
+        return proxy;
+    }
+
+    /**
+     * İlk uygulama frame'i; uygulama dışı bir thread ise ilk frame
+     */
+    private static String holdingSite(StackTraceElement[] stack) {
+        for (StackTraceElement frame : stack) {
+            if (frame.getClassName().startsWith(APPLICATION_PACKAGE) &&
+                !frame.getClassName().equals(TrackingDataSource.class.getName()) &&
+                !frame.getClassName().startsWith(TrackingDataSource.class.getName() + "$") &&
+                !frame.getClassName().contains("$$")) {
+                return frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber();
+            }
+        }
+        return stack.length > 0 ? stack[0].toString() : "unknown";
+    }
+
+    /**
+     * close() çağrısında kaydı silen bağlantı proxy'si
+     */
+    private final class TrackingHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private TrackingHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> holders.invalidate((Connection) proxy);
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "Tracked[" + target + "]";
+                }
+                default -> {
+                }
+            }
+
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
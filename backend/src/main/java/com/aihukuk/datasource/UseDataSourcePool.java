@@ -0,0 +1,24 @@
+// 🗄️ Use DataSource Pool - Metod/sınıf için bağlantı havuzu seçimi
+
+package com.aihukuk.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Metodun (veya sınıfın tüm metodlarının) bağlantılarını hangi havuzdan alacağını belirtir
+ *
+ * Repository ve service metodlarında kullanılır. Havuz, transaction başlamadan önce seçilir;
+ * zaten açık bir transaction içindeki çağrılar o transaction'ın bağlantısını kullanmaya
+ * devam eder. İşaretsiz metodlar AUTH havuzunu kullanır.
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface UseDataSourcePool {
+
+    DataSourcePool value();
+}
@@ -0,0 +1,60 @@
+// 📋 User Page Response DTO - Admin kullanıcı listesinin bir sayfası
+
+package com.aihukuk.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Kullanıcı Sayfası Response DTO
+ * 
+ * Ek özellik (JavaScript'te yoktu - GET /v1/admin/users)
+ * Format: { users: UserResponse[], nextCursor: string | null, hasMore: boolean }
+ * Sonraki sayfa için nextCursor aynı sıralama ile cursor parametresinde gönderilir.
+ */
+public class UserPageResponse {
+
+    private List<UserResponse> users;
+
+    @JsonProperty("nextCursor")
+    private String nextCursor;
+
+    @JsonProperty("hasMore")
+    private boolean hasMore;
+
+    // Default Constructor
+    public UserPageResponse() {}
+
+    // Constructor with all fields
+    public UserPageResponse(List<UserResponse> users, String nextCursor, boolean hasMore) {
+        this.users = users;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public List<UserResponse> getUsers() {
+        return users;
+    }
+
+    public void setUsers(List<UserResponse> users) {
+        this.users = users;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,130 @@
+// 🗄️ Archived User Entity - Silinmiş (DELETED) kullanıcıların arşiv kaydı
+
+package com.aihukuk.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * Archived User Entity - Arşivlenmiş kullanıcı kaydı
+ *
+ * MySQL 'users_archive' tablosuna karşılık gelir
+ * Ek özellik (JavaScript'te yoktu - soft delete arşivi)
+ *
+ * Soft delete ile DELETED durumuna geçen kullanıcılar saklama süresi dolduktan sonra
+ * UserArchivalService tarafından users tablosundan buraya taşınır. Böylece users tablosu
+ * ve index'leri sadece sıcak yolun döndürebileceği kayıtları içerir.
+ *
+ * Kayıtlar JDBC ile INSERT ... SELECT kullanılarak yazılır; entity salt okunurdur.
+ */
+@Entity
+@Immutable
+@Table(name = "users_archive", indexes = {
+    @Index(name = "idx_users_archive_email_normalized", columnList = "email_normalized"),
+    @Index(name = "idx_users_archive_archived_at", columnList = "archived_at")
+})
+public class ArchivedUser {
+
+    // Primary Key - users tablosundaki id korunur
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Convert(converter = UuidBinaryConverter.class)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "uuid", nullable = false, length = 16)
+    private String uuid;
+
+    @Column(name = "full_name", nullable = false, length = 100)
+    private String fullName;
+
+    @Column(name = "email", nullable = false, length = 255)
+    private String email;
+
+    @Column(name = "email_normalized", nullable = false, length = 255)
+    private String emailNormalized;
+
+    @Column(name = "password_hash", nullable = false, length = 255)
+    private String passwordHash;
+
+    @Column(name = "email_verified", nullable = false)
+    private Boolean emailVerified;
+
+    @Column(name = "email_verified_at")
+    private LocalDateTime emailVerifiedAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "last_login_at")
+    private LocalDateTime lastLoginAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private User.UserStatus status;
+
+    // Arşive taşınma zamanı
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    // Getters
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getUuid() {
+        return uuid;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getEmailNormalized() {
+        return emailNormalized;
+    }
+
+    public String getPasswordHash() {
+        return passwordHash;
+    }
+
+    public Boolean getEmailVerified() {
+        return emailVerified;
+    }
+
+    public LocalDateTime getEmailVerifiedAt() {
+        return emailVerifiedAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public LocalDateTime getLastLoginAt() {
+        return lastLoginAt;
+    }
+
+    public User.UserStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
@@ -0,0 +1,144 @@
+// 🔄 Refresh Token Entity - Rotation ile üretilen refresh token kayıtları
+
+package com.aihukuk.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Refresh Token Entity - Üretilen her refresh token'ın kaydı
+ * 
+ * MySQL 'refresh_tokens' tablosuna karşılık gelir
+ * Ek özellik (JavaScript'te yoktu - refresh token rotation)
+ * 
+ * - Her refresh işleminde token kullanıldı olarak işaretlenir ve aynı aileden yenisi üretilir
+ * - Kullanılmış bir token tekrar gelirse (çalınmış token) tüm aile iptal edilir
+ * 
+ * Yazmalar RefreshTokenStore üzerinden toplu (batch) yapılır; bu entity şema
+ * doğrulaması ve okuma için kullanılır.
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+    @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+    @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+})
+public class RefreshToken {
+
+    // Primary Key
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Token ID (JWT jti claim'i)
+    @Column(name = "token_id", nullable = false, unique = true, length = 36)
+    private String tokenId;
+
+    // Token ailesi (JWT fid claim'i) - aynı login'den türeyen token'lar
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    // Kullanıcı ID'si
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // Geçerlilik sonu
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // Kullanılma (rotate edilme) zamanı - null ise henüz kullanılmadı
+    @Column(name = "used_at")
+    private LocalDateTime usedAt;
+
+    // Aile iptal zamanı - null değilse token geçersiz
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    // Oluşturulma zamanı
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Default Constructor
+    public RefreshToken() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // Getters ve Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public void setTokenId(String tokenId) {
+        this.tokenId = tokenId;
+    }
+
+    public String getFamilyId() {
+        return familyId;
+    }
+
+    public void setFamilyId(String familyId) {
+        this.familyId = familyId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public LocalDateTime getUsedAt() {
+        return usedAt;
+    }
+
+    public void setUsedAt(LocalDateTime usedAt) {
+        this.usedAt = usedAt;
+    }
+
+    public LocalDateTime getRevokedAt() {
+        return revokedAt;
+    }
+
+    public void setRevokedAt(LocalDateTime revokedAt) {
+        this.revokedAt = revokedAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "RefreshToken{" +
+                "id=" + id +
+                ", tokenId='" + tokenId + '\'' +
+                ", familyId='" + familyId + '\'' +
+                ", userId=" + userId +
+                ", expiresAt=" + expiresAt +
+                ", usedAt=" + usedAt +
+                ", revokedAt=" + revokedAt +
+                '}';
+    }
+}
@@ -0,0 +1,43 @@
+// 💓 Replication Heartbeat Entity - Replica gecikmesi ölçümü için primary'ye yazılan zaman damgası
+
+package com.aihukuk.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Replication Heartbeat Entity - Replikasyon heartbeat kaydı
+ *
+ * MySQL 'replication_heartbeat' tablosuna karşılık gelir
+ * Ek özellik (JavaScript'te yoktu - read replica gecikme ölçümü)
+ *
+ * ReplicaLagMonitor primary'deki tek satırı (id = 1) düzenli aralıklarla epoch milisaniye
+ * ile günceller; replica'dan okunan değer ile şimdiki zaman arasındaki fark replica
+ * gecikmesidir. SHOW REPLICA STATUS yetkisi gerektirmez ve saat dilimlerinden etkilenmez.
+ *
+ * Kayıt JDBC ile yazılır; entity salt okunurdur.
+ */
+@Entity
+@Immutable
+@Table(name = "replication_heartbeat")
+public class ReplicationHeartbeat {
+
+    // Primary Key - tek satır (id = 1)
+    @Id
+    @Column(name = "id")
+    private Integer id;
+
+    // Son heartbeat zamanı (epoch ms)
+    @Column(name = "beat_at_ms", nullable = false)
+    private Long beatAtMs;
+
+    // Getters
+
+    public Integer getId() {
+        return id;
+    }
+
+    public Long getBeatAtMs() {
+        return beatAtMs;
+    }
+}
@@ -0,0 +1,149 @@
+// 🚫 Revoked Token Entity - İptal edilmiş token kayıtları
+
+package com.aihukuk.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Revoked Token Entity - İptal edilmiş token kaydı
+ * 
+ * MySQL 'revoked_tokens' tablosuna karşılık gelir
+ * Ek özellik (JavaScript'te yoktu - logout sonrası token blacklisting)
+ * 
+ * İki tür kayıt tutulur:
+ * - Tek token iptali: token_id (jti) dolu
+ * - Kullanıcının tüm token'larının iptali: revoked_before dolu, bu tarihten önce
+ *   üretilen tüm token'lar geçersizdir
+ * 
+ * Tablo küçüktür; kayıtlar expires_at sonrasında temizlenir ve uygulama
+ * başlangıcında bellek içi iptal listesi bu tablodan yeniden oluşturulur.
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+    @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at")
+})
+public class RevokedToken {
+
+    // Primary Key
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Token ID (JWT jti claim'i) - tek token iptalinde dolu
+    @Column(name = "token_id", length = 36)
+    private String tokenId;
+
+    // Kullanıcı ID'si
+    @Column(name = "user_id")
+    private Long userId;
+
+    // Bu tarihten önce üretilen tüm token'lar iptal - kullanıcı bazlı iptalde dolu
+    @Column(name = "revoked_before")
+    private LocalDateTime revokedBefore;
+
+    // Kaydın geçerlilik sonu (ilgili token'ların en geç sona erdiği an)
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // Oluşturulma zamanı
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Default Constructor
+    public RevokedToken() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * Tek token iptal kaydı oluştur
+     * 
+     * @param tokenId Token ID (jti)
+     * @param userId Kullanıcı ID'si
+     * @param expiresAt Token'ın geçerlilik sonu
+     */
+    public static RevokedToken forToken(String tokenId, Long userId, LocalDateTime expiresAt) {
+        RevokedToken revokedToken = new RevokedToken();
+        revokedToken.tokenId = tokenId;
+        revokedToken.userId = userId;
+        revokedToken.expiresAt = expiresAt;
+        return revokedToken;
+    }
+
+    /**
+     * Kullanıcının belirli bir andan önceki tüm token'larını iptal eden kayıt oluştur
+     * 
+     * @param userId Kullanıcı ID'si
+     * @param revokedBefore Bu andan önce üretilen token'lar iptal
+     * @param expiresAt Bu andan önce üretilen token'ların en geç sona erdiği an
+     */
+    public static RevokedToken forUser(Long userId, LocalDateTime revokedBefore, LocalDateTime expiresAt) {
+        RevokedToken revokedToken = new RevokedToken();
+        revokedToken.userId = userId;
+        revokedToken.revokedBefore = revokedBefore;
+        revokedToken.expiresAt = expiresAt;
+        return revokedToken;
+    }
+
+    // Getters ve Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public void setTokenId(String tokenId) {
+        this.tokenId = tokenId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public LocalDateTime getRevokedBefore() {
+        return revokedBefore;
+    }
+
+    public void setRevokedBefore(LocalDateTime revokedBefore) {
+        this.revokedBefore = revokedBefore;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "RevokedToken{" +
+                "id=" + id +
+                ", tokenId='" + tokenId + '\'' +
+                ", userId=" + userId +
+                ", revokedBefore=" + revokedBefore +
+                ", expiresAt=" + expiresAt +
+                '}';
+    }
+}
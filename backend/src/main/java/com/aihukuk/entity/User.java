@@ -2,18 +2,27 @@
 
 package com.aihukuk.entity;
 
+import com.aihukuk.util.EmailNormalizer;
+import com.aihukuk.util.UuidV7;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.util.Locale;
 
 /**
  * User Entity - Kullanıcı varlık sınıfı
@@ -22,28 +31,55 @@ import java.util.UUID;
  * MySQL 'users' tablosuna karşılık gelir
  * 
  * Özellikler:
- * - UUID tabanlı unique identifier
- * - Email tabanlı authentication
+ * - UUID tabanlı unique identifier (UUIDv7, BINARY(16) olarak saklanır)
+ * - Email tabanlı authentication (aramalar index'li email_normalized kolonu üzerinden)
  * - BCrypt şifreli password
  * - Email doğrulama desteği
  * - Audit fields (created_at, updated_at)
+ * - Pooled id üretimi: insert'ler hibernate.jdbc.batch_size ile toplu gönderilir
+ * - Hibernate second-level cache: entity "users" bölgesinde, uuid -> id çözümlemesi
+ *   "users-natural-id" bölgesinde tutulur (HibernateCacheConfig)
+ * - UPDATE'ler sadece değişen kolonları yazar (@DynamicUpdate); başka bir node'un veya
+ *   LastLoginRecorder'ın yazdığı kolonlar eski değerleriyle geri yazılmaz
  */
 @Entity
 @Table(name = "users", indexes = {
-    @Index(name = "idx_email", columnList = "email"),
-    @Index(name = "idx_uuid", columnList = "uuid"),
-    @Index(name = "idx_status", columnList = "status")
+    @Index(name = "uk_users_email_normalized", columnList = "email_normalized", unique = true),
+    @Index(name = "uk_users_uuid", columnList = "uuid", unique = true),
+    // İstatistik sayımları: status eşitliği/aralığı + email_verified + created_at (covering)
+    @Index(name = "idx_users_status_verified_created", columnList = "status, email_verified, created_at"),
+    // Admin listesi (keyset): (created_at, id) / (last_login_at, id) sırasıyla okunur,
+    // status index içinde filtrelenir
+    @Index(name = "idx_users_created_id_status", columnList = "created_at, id, status"),
+    @Index(name = "idx_users_last_login_id_status", columnList = "last_login_at, id, status"),
+    // Askıya alınan hesaplar: updated_at aralığı, status index içinde filtrelenir
+    @Index(name = "idx_users_updated_status", columnList = "updated_at, status")
 })
 @EntityListeners(AuditingEntityListener.class)
+@DynamicUpdate
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NaturalIdCache(region = User.NATURAL_ID_CACHE_REGION)
 public class User {
 
+    // Hibernate second-level cache bölgeleri
+    public static final String CACHE_REGION = "users";
+    public static final String NATURAL_ID_CACHE_REGION = "users-natural-id";
+    public static final String EMAIL_QUERY_CACHE_REGION = "users-by-email";
+
     // Primary Key - JavaScript'teki id field
+    // IDENTITY insert batching'i kapatır; id'ler users_seq'ten 50'lik bloklarla alınır (pooled)
+    // MySQL'de sequence olmadığından users_seq tek satırlı bir tablodur (V7 migration)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
-    // Unique UUID - JavaScript'teki uuid field  
-    @Column(name = "uuid", nullable = false, unique = true, length = 36)
+    // Unique UUID - JavaScript'teki uuid field (değişmez; natural id olarak cache'lenir)
+    // Zaman sıralı (UUIDv7); veritabanında BINARY(16), uygulamada string
+    @NaturalId
+    @Convert(converter = UuidBinaryConverter.class)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "uuid", nullable = false, length = 16)
     private String uuid;
 
     // Full Name - JavaScript'teki full_name field
@@ -59,6 +95,11 @@ public class User {
     @NotBlank(message = "Email gereklidir")
     private String email;
 
+    // Normalized Email - Ek özellik (JavaScript'te yoktu); tam eşleşmeli, index'li email aramaları için
+    @Column(name = "email_normalized", nullable = false, length = 255)
+    @JsonIgnore
+    private String emailNormalized;
+
     // Password Hash - JavaScript'teki password_hash field
     @Column(name = "password_hash", nullable = false, length = 255)
     @JsonIgnore // JSON response'larda password gösterme
@@ -115,14 +156,14 @@ public class User {
 
     // Default Constructor
     public User() {
-        this.uuid = UUID.randomUUID().toString(); // Otomatik UUID üret
+        this.uuid = UuidV7.generate().toString(); // Otomatik UUID üret (zaman sıralı)
     }
 
     // Constructor with basic fields
     public User(String fullName, String email, String passwordHash) {
         this();
         this.fullName = fullName;
-        this.email = email.toLowerCase(); // Email'i küçük harfe çevir
+        setEmail(email); // Email'i küçük harfe çevir
         this.passwordHash = passwordHash;
     }
 
@@ -157,7 +198,12 @@ public class User {
     }
 
     public void setEmail(String email) {
-        this.email = email != null ? email.toLowerCase() : null;
+        this.email = email != null ? email.toLowerCase(Locale.ROOT) : null;
+        this.emailNormalized = EmailNormalizer.normalize(email);
+    }
+
+    public String getEmailNormalized() {
+        return emailNormalized;
     }
 
     public String getPasswordHash() {
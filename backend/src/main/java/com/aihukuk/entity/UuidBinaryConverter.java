@@ -0,0 +1,48 @@
+// 🔄 UUID Binary Converter - UUID string'lerinin BINARY(16) olarak saklanması
+
+package com.aihukuk.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * UUID Binary Converter
+ *
+ * Ek özellik (JavaScript'te yoktu - VARCHAR(36) yerine BINARY(16))
+ *
+ * Entity'lerde UUID String olarak kalır (UserResponse, JWT uuid claim'i aynı biçimi
+ * kullanır); veritabanında 16 byte olarak saklanır. Anahtar başına 36+ byte yerine
+ * 16 byte, index'ler daha küçük ve karşılaştırmalar collation'sız byte karşılaştırmasıdır.
+ *
+ * Byte sırası MySQL UUID_TO_BIN(uuid) (swap_flag = 0) ile aynıdır; mevcut kayıtlar
+ * V8 migration'ında bu fonksiyonla dönüştürülür.
+ */
+@Converter
+public class UuidBinaryConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String uuid) {
+        if (uuid == null) {
+            return null;
+        }
+
+        UUID value = UUID.fromString(uuid);
+        return ByteBuffer.allocate(16)
+                .putLong(value.getMostSignificantBits())
+                .putLong(value.getLeastSignificantBits())
+                .array();
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+}
@@ -0,0 +1,43 @@
+// 🔌 Database Unavailable Exception - Veritabanı devre kesicisi açıkken hızlı ret
+
+package com.aihukuk.exception;
+
+/**
+ * Veritabanı Erişilemez Hatası
+ *
+ * Ek özellik (JavaScript'te yoktu)
+ *
+ * Havuzdan bağlantı alınamadığında veya devre kesici (CircuitBreakerDataSource) açıkken
+ * fırlatılır. ServiceOverloadedException'dan türediği için controller'ların mevcut
+ * yeniden fırlatma blokları bu hatayı da GlobalExceptionHandler'a iletir; yanıt
+ * 503 + Retry-After olur.
+ */
+public class DatabaseUnavailableException extends ServiceOverloadedException {
+
+    public DatabaseUnavailableException(String message, long retryAfterSeconds) {
+        super(message, retryAfterSeconds);
+    }
+
+    public DatabaseUnavailableException(String message, long retryAfterSeconds, Throwable cause) {
+        super(message, retryAfterSeconds);
+        initCause(cause);
+    }
+
+    /**
+     * Hata zincirindeki DatabaseUnavailableException
+     *
+     * @param throwable Sarmalanmış olabilecek hata
+     * @return Zincirde varsa hata, yoksa null
+     */
+    public static DatabaseUnavailableException findIn(Throwable throwable) {
+        for (Throwable current = throwable; current != null; current = current.getCause()) {
+            if (current instanceof DatabaseUnavailableException unavailable) {
+                return unavailable;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return null;
+    }
+}
@@ -9,6 +9,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -36,6 +37,8 @@ import java.util.Map;
  * - Validation errors -> JavaScript ValidationError
  * - Database errors -> JavaScript MySQL errors (ER_DUP_ENTRY, vb.)
  * - Authentication errors -> JavaScript JWT errors
+ * - Overload errors -> 503 + Retry-After (ek özellik)
+ * - Database unavailable (devre kesici açık) -> 503 + Retry-After (ek özellik)
  * - Generic exceptions -> JavaScript generic error handler
  */
 @ControllerAdvice
@@ -239,6 +242,36 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage(), "APPLICATION_ERROR"));
     }
 
+    /**
+     * Service Overloaded Exception Handler
+     * Ek özellik (JavaScript'te yoktu) - kapasite dolduğunda 503 + Retry-After
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleServiceOverloaded(
+            ServiceOverloadedException ex, HttpServletRequest request) {
+
+        logger.warn("Service overloaded: {} - URL: {}", ex.getMessage(), request.getRequestURI());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.error(ex.getMessage(), "SERVICE_OVERLOADED"));
+    }
+
+    /**
+     * Database Unavailable Exception Handler
+     * Ek özellik (JavaScript'te yoktu) - veritabanı erişilemezken beklemeden 503 + Retry-After
+     */
+    @ExceptionHandler(DatabaseUnavailableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDatabaseUnavailable(
+            DatabaseUnavailableException ex, HttpServletRequest request) {
+
+        logger.warn("Database unavailable: {} - URL: {}", ex.getMessage(), request.getRequestURI());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.error(ex.getMessage(), "DATABASE_UNAVAILABLE"));
+    }
+
     /**
      * Generic Exception Handler
      * JavaScript generic error handler'ının karşılığı
@@ -0,0 +1,28 @@
+// ⏳ Service Overloaded Exception - Kapasite dolduğunda hızlı ret
+
+package com.aihukuk.exception;
+
+/**
+ * Servis Aşırı Yük Hatası
+ * 
+ * Ek özellik (JavaScript'te yoktu)
+ * 
+ * Sınırlı kaynak (ör. şifre hash thread'leri) dolduğunda istek kuyrukta beklemek yerine
+ * hemen reddedilir. GlobalExceptionHandler bu hatayı 503 + Retry-After'a çevirir.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * İstemcinin tekrar denemeden önce beklemesi gereken süre (saniye)
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -2,20 +2,24 @@
 
 package com.aihukuk.filter;
 
-import com.aihukuk.entity.User;
+import com.aihukuk.datasource.ReadYourWritesContext;
+import com.aihukuk.exception.DatabaseUnavailableException;
+import com.aihukuk.security.SuspendedUserRegistry;
+import com.aihukuk.security.TokenRevocationService;
+import com.aihukuk.security.UserPrincipal;
 import com.aihukuk.service.UserService;
 import com.aihukuk.util.JwtUtil;
+import com.aihukuk.util.VerifiedAccessToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -32,7 +36,7 @@ import java.util.Map;
  * İşlevler:
  * - Authorization header'ından token çıkar
  * - Token'ı doğrula
- * - Kullanıcıyı bul ve authenticate et
+ * - Kullanıcıyı bul ve authenticate et (stateless modda token claim'lerinden)
  * - Security context'e kullanıcıyı set et
  */
 @Component
@@ -46,9 +50,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private UserService userService;
 
     @Autowired
-    private UserDetailsService userDetailsService;
+    private SuspendedUserRegistry suspendedUserRegistry;
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    // true ise principal sadece imzalı token claim'lerinden oluşturulur (istek başına DB sorgusu yok)
+    @Value("${jwt.stateless-auth.enabled:false}")
+    private boolean statelessAuthEnabled;
+
+    // Uygulamanın ObjectMapper'ı (timestamp LocalDateTime olarak GlobalExceptionHandler ile aynı formatta yazılır)
+    @Autowired
+    private ObjectMapper objectMapper;
 
     /**
      * JWT Authentication Filter
@@ -59,10 +72,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                    @NonNull HttpServletResponse response,
                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
         
+        // Read replica yönlendirmesi için isteği yapan kullanıcı (read-your-writes)
+        Long previousUserId = ReadYourWritesContext.currentUserId();
+
         try {
             // Authorization header'ını al (JavaScript req.headers['authorization'])
             String authHeader = request.getHeader("Authorization");
             String token = null;
+            VerifiedAccessToken verifiedToken = null;
             String email = null;
 
             // Token'ı çıkar (JavaScript authHeader && authHeader.split(' ')[1])
@@ -70,48 +87,75 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 token = authHeader.substring(7); // "Bearer " kısmını at
                 
                 try {
-                    // Token'dan email çıkar (JavaScript jwt.verify(token, process.env.JWT_SECRET))
-                    email = jwtUtil.extractEmail(token);
+                    // Token'ı tek seferde doğrula (JavaScript jwt.verify(token, process.env.JWT_SECRET))
+                    verifiedToken = jwtUtil.verifyAccessToken(token);
+                    email = verifiedToken.getSubject();
+                    ReadYourWritesContext.bind(verifiedToken.getUserId());
                 } catch (Exception e) {
                     // Token geçersizse hata response gönder
                     sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, 
                                     "Geçersiz token", "AUTH_004");
                     return;
                 }
-            }
 
-            // Email varsa ve henüz authenticate olmamışsa
-            if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                
-                // Kullanıcıyı veritabanından al (JavaScript User.findById(decoded.userId))
-                User user = userService.findByEmail(email);
-                
-                if (user == null) {
-                    // JavaScript: return res.status(401).json({ message: 'Geçersiz token - kullanici bulunamadi' })
+                // Logout ile iptal edilmiş token'ları reddet (Bloom filter ön kontrolü, DB'ye gidilmez)
+                if (tokenRevocationService.isRevoked(verifiedToken)) {
                     sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED,
-                                    "Geçersiz token - kullanici bulunamadi", "AUTH_002");
+                                    "Token iptal edilmis", "AUTH_005");
                     return;
                 }
+            }
 
-                // Kullanıcı aktif mi kontrol et (JavaScript user.status !== 'active')
-                if (!user.isActive()) {
-                    // JavaScript: return res.status(403).json({ message: 'Hesap askiya alinmis veya deaktif' })
-                    sendErrorResponse(response, HttpServletResponse.SC_FORBIDDEN,
-                                    "Hesap askiya alinmis veya deaktif", "AUTH_003");
-                    return;
+            // Email varsa ve henüz authenticate olmamışsa
+            if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+
+                UserPrincipal principal;
+
+                if (statelessAuthEnabled) {
+                    // Stateless mod: principal imzalı token claim'lerinden oluşturulur, DB'ye gidilmez
+                    principal = UserPrincipal.fromToken(verifiedToken);
+
+                    if (principal.getId() == null) {
+                        sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED,
+                                        "Geçersiz token - kullanici bulunamadi", "AUTH_002");
+                        return;
+                    }
+
+                    // Token ömrü içinde askıya alınan hesaplar (JavaScript user.status !== 'active')
+                    if (suspendedUserRegistry.isSuspended(principal.getId())) {
+                        sendErrorResponse(response, HttpServletResponse.SC_FORBIDDEN,
+                                        "Hesap askiya alinmis veya deaktif", "AUTH_003");
+                        return;
+                    }
+                } else {
+                    // Kullanıcıyı bul (JavaScript User.findById(decoded.userId))
+                    // Principal cache'ten gelir; cache'te yoksa veritabanından yüklenir
+                    principal = userService.findPrincipalByEmail(email);
+                    
+                    if (principal == null) {
+                        // JavaScript: return res.status(401).json({ message: 'Geçersiz token - kullanici bulunamadi' })
+                        sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED,
+                                        "Geçersiz token - kullanici bulunamadi", "AUTH_002");
+                        return;
+                    }
+
+                    // Kullanıcı aktif mi kontrol et (JavaScript user.status !== 'active')
+                    if (!principal.isActive()) {
+                        // JavaScript: return res.status(403).json({ message: 'Hesap askiya alinmis veya deaktif' })
+                        sendErrorResponse(response, HttpServletResponse.SC_FORBIDDEN,
+                                        "Hesap askiya alinmis veya deaktif", "AUTH_003");
+                        return;
+                    }
                 }
 
-                // UserDetails oluştur
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-                
-                // Token geçerli mi kontrol et (JavaScript jwt.verify validation)
-                if (jwtUtil.validateAccessToken(token, userDetails)) {
+                // Token kullanıcıya ait mi kontrol et (imza zaten doğrulandı, tekrar parse edilmez)
+                if (jwtUtil.validateAccessToken(verifiedToken, principal)) {
                     // Authentication token oluştur (JavaScript req.user = user)
                     UsernamePasswordAuthenticationToken authToken = 
                             new UsernamePasswordAuthenticationToken(
-                                    userDetails, 
+                                    principal, 
                                     null, 
-                                    userDetails.getAuthorities()
+                                    principal.getAuthorities()
                             );
                     
                     // Request details set et
@@ -121,18 +165,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     SecurityContextHolder.getContext().setAuthentication(authToken);
                     
                     // Request attribute'una user bilgisini ekle (JavaScript req.user)
-                    request.setAttribute("currentUser", user);
+                    request.setAttribute("currentUser", principal);
+                    request.setAttribute(VerifiedAccessToken.REQUEST_ATTRIBUTE, verifiedToken);
                 }
             }
 
             // Filter chain'i devam ettir (JavaScript next())
             filterChain.doFilter(request, response);
 
+        } catch (DatabaseUnavailableException e) {
+            // Principal yüklenemedi: veritabanı devresi açık, 500 yerine beklemeden 503
+            response.setHeader("Retry-After", Long.toString(e.getRetryAfterSeconds()));
+            sendErrorResponse(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+                            e.getMessage(), "DATABASE_UNAVAILABLE");
+
         } catch (Exception e) {
             // JavaScript catch block'un karşılığı
             logger.error("JWT Authentication error: " + e.getMessage(), e);
             sendErrorResponse(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
                             "Token dogrulama hatasi", "AUTH_006");
+        } finally {
+            ReadYourWritesContext.bind(previousUserId);
         }
     }
 
@@ -0,0 +1,222 @@
+// 🚦 Rate Limit Filter - JavaScript express-rate-limit middleware'inin karşılığı
+
+package com.aihukuk.filter;
+
+import com.aihukuk.dto.response.ApiResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rate Limit Filter
+ *
+ * JavaScript server.js'deki limiter ve authLimiter (express-rate-limit) middleware'lerinin karşılığı
+ *
+ * - Genel limit: rate-limit.max-requests / rate-limit.window-ms (istemci IP'si başına)
+ * - Auth limiti: rate-limit.auth-max-requests / rate-limit.auth-window-ms (login ve register)
+ * - Health, actuator ve swagger endpoint'leri limitsizdir
+ *
+ * Her bucket tek bir AtomicLong'dur (GCRA - token bucket'ın tek sayaçlı hali): bucket'ın
+ * tekrar dolu sayılacağı an tutulur ve istek başına bir CAS ile güncellenir. Kilit yoktur,
+ * farklı IP'ler aynı sayaç üzerinde yarışmaz. Dolmuş (boşta kalan) bucket'lar periyodik
+ * olarak silinir.
+ *
+ * Proxy arkasında gerçek istemci IP'si için server.forward-headers-strategy ayarlanmalıdır.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rate-limit.window-ms:900000}")
+    private long windowMs;
+
+    @Value("${rate-limit.max-requests:100}")
+    private long maxRequests;
+
+    @Value("${rate-limit.auth-window-ms:900000}")
+    private long authWindowMs;
+
+    @Value("${rate-limit.auth-max-requests:5}")
+    private long authMaxRequests;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Bucket generalBuckets;
+    private Bucket authBuckets;
+
+    /**
+     * Bir limit grubu: IP -> bucket'ın tekrar dolu sayılacağı an (nanoTime)
+     */
+    static final class Bucket {
+        private final ConcurrentHashMap<String, AtomicLong> fullAt = new ConcurrentHashMap<>();
+        private final long emissionIntervalNanos;
+        private final long windowNanos;
+        private final byte[] rejectionBody;
+        private final Counter rejectedCounter;
+
+        Bucket(long windowMs, long maxRequests, byte[] rejectionBody, Counter rejectedCounter) {
+            this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+            this.emissionIntervalNanos = windowNanos / Math.max(1, maxRequests);
+            this.rejectionBody = rejectionBody;
+            this.rejectedCounter = rejectedCounter;
+        }
+
+        /**
+         * İstek için bir token almaya çalış
+         *
+         * @return 0 ise izin verildi, değilse tekrar denemeden önce beklenmesi gereken süre (nano saniye)
+         */
+        long tryAcquire(String clientKey, long now) {
+            AtomicLong bucket = fullAt.get(clientKey);
+            if (bucket == null) {
+                AtomicLong created = new AtomicLong(now);
+                bucket = fullAt.putIfAbsent(clientKey, created);
+                if (bucket == null) {
+                    bucket = created;
+                }
+            }
+
+            while (true) {
+                long current = bucket.get();
+                long next = Math.max(current, now) + emissionIntervalNanos;
+                long waitNanos = next - now - windowNanos;
+
+                if (waitNanos > 0) {
+                    return waitNanos;
+                }
+                if (bucket.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        void evictIdle(long now) {
+            fullAt.values().removeIf(bucket -> bucket.get() <= now);
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        generalBuckets = new Bucket(windowMs, maxRequests,
+                rejectionBody("Çok fazla istek. Lütfen daha sonra tekrar deneyin.", "RATE_LIMIT_EXCEEDED"),
+                rejectedCounter("general"));
+        authBuckets = new Bucket(authWindowMs, authMaxRequests,
+                rejectionBody("Çok fazla deneme. Lütfen daha sonra tekrar deneyin.", "AUTH_RATE_LIMIT_EXCEEDED"),
+                rejectedCounter("auth"));
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        Bucket bucket = isAuthRequest(request) ? authBuckets : generalBuckets;
+        long waitNanos = bucket.tryAcquire(request.getRemoteAddr(), System.nanoTime());
+
+        if (waitNanos > 0) {
+            bucket.rejectedCounter.increment();
+            sendRateLimitResponse(response, bucket.rejectionBody, waitNanos);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Limitsiz path'lar
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
+        if (!enabled || HttpMethod.OPTIONS.matches(request.getMethod())) {
+            return true; // CORS preflight istekleri sayılmaz
+        }
+
+        String path = request.getRequestURI();
+        return path.startsWith("/v1/health") ||
+               path.startsWith("/actuator") ||
+               path.startsWith("/swagger-ui") ||
+               path.startsWith("/v1/api-docs");
+    }
+
+    /**
+     * Boşta kalan (tamamen dolmuş) bucket'ları temizle
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.cleanup-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        generalBuckets.evictIdle(now);
+        authBuckets.evictIdle(now);
+    }
+
+    // Helper Methods
+
+    /**
+     * JavaScript authLimiter'ın uygulandığı route'lar
+     */
+    private boolean isAuthRequest(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return HttpMethod.POST.matches(request.getMethod()) &&
+               (path.equals("/v1/auth/login") || path.equals("/v1/auth/register"));
+    }
+
+    /**
+     * 429 response'u gönder (body başlangıçta bir kez serialize edilir)
+     */
+    private void sendRateLimitResponse(HttpServletResponse response, byte[] body, long waitNanos) throws IOException {
+        response.setStatus(429); // Too Many Requests
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds(waitNanos)));
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Retry-After saniyesi (yukarı yuvarlanır; bu süre sonunda tekrar deneyen istemci reddedilmez)
+     */
+    static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+    }
+
+    private byte[] rejectionBody(String message, String code) {
+        ApiResponse<Void> body = ApiResponse.error(message, code);
+        body.setTimestamp(null); // Sabit body; timestamp istek başına üretilmez
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Rate limit response serialize edilemedi", e);
+        }
+    }
+
+    private Counter rejectedCounter(String group) {
+        return Counter.builder("rate_limit.rejected")
+                .description("Rate limit nedeniyle reddedilen istekler")
+                .tag("group", group)
+                .register(meterRegistry);
+    }
+}
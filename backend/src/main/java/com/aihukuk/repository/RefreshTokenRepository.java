@@ -0,0 +1,43 @@
+// 🗄️ Refresh Token Repository - Refresh token rotation kayıtları
+
+package com.aihukuk.repository;
+
+import com.aihukuk.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Refresh Token Repository Interface
+ * 
+ * RefreshTokenStore'un bellekte bulamadığı token'lar için kalıcı kaynak
+ * (yeniden başlatma sonrası veya başka bir node'da üretilmiş token'lar)
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * Token ID ile kayıt bul
+     * 
+     * @param tokenId Token ID (jti)
+     * @return Kayıt
+     */
+    Optional<RefreshToken> findByTokenId(String tokenId);
+
+    /**
+     * Süresi dolmuş kayıtları sil
+     * 
+     * @param now Şu an
+     * @return Silinen kayıt sayısı
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,53 @@
+// 🗄️ Revoked Token Repository - İptal edilmiş token kayıtları
+
+package com.aihukuk.repository;
+
+import com.aihukuk.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Revoked Token Repository Interface
+ * 
+ * Bellek içi token iptal listesinin kalıcı kaynağı
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    /**
+     * Süresi dolmamış tüm kayıtlar
+     * Uygulama başlangıcında bellek içi listeyi oluşturmak için
+     * 
+     * @param now Şu an
+     * @return Süresi dolmamış kayıtlar
+     */
+    List<RevokedToken> findByExpiresAtAfter(LocalDateTime now);
+
+    /**
+     * Belirli bir tarihten sonra eklenen ve süresi dolmamış kayıtlar
+     * Diğer node'ların eklediği iptalleri periyodik olarak yüklemek için
+     * 
+     * @param since Bu tarihten sonra eklenenler
+     * @param now Şu an
+     * @return Yeni kayıtlar
+     */
+    List<RevokedToken> findByCreatedAtAfterAndExpiresAtAfter(LocalDateTime since, LocalDateTime now);
+
+    /**
+     * Süresi dolmuş kayıtları sil
+     * 
+     * @param now Şu an
+     * @return Silinen kayıt sayısı
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
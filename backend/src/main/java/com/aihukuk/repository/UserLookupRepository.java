@@ -0,0 +1,43 @@
+// 🔎 User Lookup Repository - Second-level cache üzerinden kullanıcı aramaları
+
+package com.aihukuk.repository;
+
+import com.aihukuk.entity.User;
+
+import java.util.Optional;
+
+/**
+ * User Lookup Repository
+ *
+ * UserRepository'nin Hibernate Session API ile yazılmış parçası (Spring Data fragment).
+ * Türetilmiş sorgular (findByUuid...) her çağrıda veritabanına gider; buradaki aramalar
+ * önce second-level cache'e bakar.
+ */
+public interface UserLookupRepository {
+
+    /**
+     * UUID'ye göre kullanıcı bul (natural id)
+     * JavaScript User.findByUuid() metodunun cache'li karşılığı
+     *
+     * uuid -> id çözümlemesi ve entity second-level cache'ten okunur; silinmiş
+     * kullanıcılar da döner, status kontrolü çağırana aittir.
+     *
+     * @param uuid Kullanıcı UUID'si
+     * @return Kullanıcı varsa Optional<User>
+     */
+    Optional<User> loadByUuid(String uuid);
+
+    /**
+     * ID'ye göre kullanıcıyı değiştirmek için yükle
+     * Ek özellik (JavaScript'te yoktu)
+     *
+     * Second-level cache atlanır ve kayıt read-write transaction'da (primary) okunur;
+     * cache'teki kopya başka bir node'un yazmasından eski olabilir. Dönen entity
+     * managed'dır, değişen kolonlar commit'te yazılır (@DynamicUpdate).
+     * Çağıranın transaction'ına katılır.
+     *
+     * @param id Kullanıcı ID'si
+     * @return Kullanıcı varsa Optional<User> (silinmiş kullanıcılar dahil)
+     */
+    Optional<User> loadForUpdate(Long id);
+}
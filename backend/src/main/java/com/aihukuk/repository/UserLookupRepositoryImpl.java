@@ -0,0 +1,64 @@
+// 🔎 User Lookup Repository Implementation - Natural id aramaları
+
+package com.aihukuk.repository;
+
+import com.aihukuk.entity.User;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * UserLookupRepository implementasyonu
+ * Spring Data tarafından UserRepository'ye isim kuralıyla (...Impl) bağlanır
+ */
+@Transactional(readOnly = true)
+class UserLookupRepositoryImpl implements UserLookupRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<User> loadByUuid(String uuid) {
+        // Kolon BINARY(16); UUID biçiminde olmayan değer hiçbir kayıtla eşleşemez
+        if (!isUuid(uuid)) {
+            return Optional.empty();
+        }
+
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(uuid);
+    }
+
+    @Override
+    @Transactional
+    public Optional<User> loadForUpdate(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(entityManager.find(User.class, id,
+                Map.of(SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS)));
+    }
+
+    // Helper Methods
+
+    private static boolean isUuid(String value) {
+        if (value == null) {
+            return false;
+        }
+
+        try {
+            UUID.fromString(value);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
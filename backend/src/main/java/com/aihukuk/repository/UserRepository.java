@@ -2,13 +2,22 @@
 
 package com.aihukuk.repository;
 
+import com.aihukuk.datasource.DataSourcePool;
+import com.aihukuk.datasource.UseDataSourcePool;
 import com.aihukuk.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -18,58 +27,61 @@ import java.util.Optional;
  * 
  * Metodlar:
  * - findByEmail() -> JavaScript User.findByEmail()
- * - findByUuid() -> JavaScript User.findByUuid()
- * - findActiveById() -> JavaScript User.findById() + status kontrolü
+ * - loadByUuid() -> JavaScript User.findByUuid() (natural id, UserLookupRepository)
+ * - findById() -> JavaScript User.findById() (status kontrolü UserService'te)
  * - existsByEmail() -> Email varlık kontrolü
  * - getUserStats() -> JavaScript User.getStats()
+ * - findPageBy...() -> Admin kullanıcı listesi (keyset sayfalama, ek özellik)
+ * 
+ * Sorgu metodları kendi kısa read-only transaction'ında çalışır; transaction dışındaki
+ * çağrılarda (ör. login) bağlantı sorgu biter bitmez havuza döner.
+ * İstatistik ve listeleme sorguları REPORTING havuzunu kullanır (@UseDataSourcePool).
+ * findById ve loadByUuid entity second-level cache'inden, email aramaları query
+ * cache'inden (users-by-email) karşılanır.
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+@Transactional(readOnly = true)
+public interface UserRepository extends JpaRepository<User, Long>, UserLookupRepository {
 
     /**
      * Email adresine göre kullanıcı bul
      * JavaScript User.findByEmail() metodunun karşılığı
      * 
-     * @param email Email adresi (büyük/küçük harf duyarlı değil)
+     * @param emailNormalized EmailNormalizer ile normalize edilmiş email
      * @return Kullanıcı varsa Optional<User>, yoksa empty
      */
-    Optional<User> findByEmailIgnoreCaseAndStatusNot(String email, User.UserStatus status);
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = User.EMAIL_QUERY_CACHE_REGION)
+    })
+    Optional<User> findByEmailNormalizedAndStatusNot(String emailNormalized, User.UserStatus status);
 
     /**
      * Email ile aktif kullanıcı bul (giriş için)
      * JavaScript User.authenticate() içindeki sorgunun karşılığı
      * 
-     * @param email Email adresi
-     * @return Aktif kullanıcı varsa Optional<User>
-     */
-    Optional<User> findByEmailIgnoreCaseAndStatus(String email, User.UserStatus status);
-
-    /**
-     * UUID'ye göre aktif kullanıcı bul
-     * JavaScript User.findByUuid() metodunun karşılığı
-     * 
-     * @param uuid Kullanıcı UUID'si
-     * @return Silinmemiş kullanıcı varsa Optional<User>
-     */
-    Optional<User> findByUuidAndStatusNot(String uuid, User.UserStatus status);
-
-    /**
-     * ID'ye göre aktif kullanıcı bul
-     * JavaScript User.findById() metodunun karşılığı
+     * Read-write transaction'da çalışır: replica'ya gitmez. Login isteğinde kullanıcı id'si
+     * olmadığından read-your-writes uygulanamaz; replica'dan okunsaydı gecikme boyunca eski
+     * şifre kabul edilir, askıya alınan hesap giriş yapabilir, yeni kayıt giriş yapamazdı.
      * 
-     * @param id Kullanıcı ID'si
-     * @return Silinmemiş kullanıcı varsa Optional<User>
+     * @param emailNormalized EmailNormalizer ile normalize edilmiş email
+     * @return Aktif kullanıcı varsa Optional<User>
      */
-    Optional<User> findByIdAndStatusNot(Long id, User.UserStatus status);
+    @Transactional
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = User.EMAIL_QUERY_CACHE_REGION)
+    })
+    Optional<User> findByEmailNormalizedAndStatus(String emailNormalized, User.UserStatus status);
 
     /**
      * Email adresi zaten var mı kontrol et
      * JavaScript User.create() içindeki dublicate kontrolünün karşılığı
      * 
-     * @param email Email adresi
+     * @param emailNormalized EmailNormalizer ile normalize edilmiş email
      * @return Email varsa true, yoksa false
      */
-    boolean existsByEmailIgnoreCaseAndStatusNot(String email, User.UserStatus status);
+    boolean existsByEmailNormalizedAndStatusNot(String emailNormalized, User.UserStatus status);
 
     /**
      * Toplam kullanıcı sayısı (silinmemiş)
@@ -77,6 +89,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * 
      * @return Silinmemiş kullanıcı sayısı
      */
+    @UseDataSourcePool(DataSourcePool.REPORTING)
     @Query("SELECT COUNT(u) FROM User u WHERE u.status != :deletedStatus")
     long countByStatusNot(@Param("deletedStatus") User.UserStatus deletedStatus);
 
@@ -86,6 +99,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * 
      * @return Aktif kullanıcı sayısı
      */
+    @UseDataSourcePool(DataSourcePool.REPORTING)
     long countByStatus(User.UserStatus status);
 
     /**
@@ -94,6 +108,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * 
      * @return Email doğrulanmış kullanıcı sayısı
      */
+    @UseDataSourcePool(DataSourcePool.REPORTING)
     @Query("SELECT COUNT(u) FROM User u WHERE u.emailVerified = true AND u.status != :deletedStatus")
     long countVerifiedUsers(@Param("deletedStatus") User.UserStatus deletedStatus);
 
@@ -104,34 +119,130 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @param startDate 30 gün önceki tarih
      * @return Yeni kullanıcı sayısı
      */
+    @UseDataSourcePool(DataSourcePool.REPORTING)
     @Query("SELECT COUNT(u) FROM User u WHERE u.createdAt > :startDate AND u.status != :deletedStatus")
     long countRecentUsers(@Param("startDate") LocalDateTime startDate, @Param("deletedStatus") User.UserStatus deletedStatus);
 
     /**
      * Kullanıcı istatistikleri (tek sorguda)
      * JavaScript User.getStats() metodunun optimize edilmiş karşılığı
+     * UserStatisticsService bellekteki sayaçları bu sorgu ile periyodik olarak eşitler
      */
+    @UseDataSourcePool(DataSourcePool.REPORTING)
     @Query("""
         SELECT new map(
             COUNT(u) as total,
             SUM(CASE WHEN u.status = 'ACTIVE' THEN 1 ELSE 0 END) as active,
             SUM(CASE WHEN u.emailVerified = true THEN 1 ELSE 0 END) as verified,
-            SUM(CASE WHEN u.createdAt > :startDate THEN 1 ELSE 0 END) as recent
+            SUM(CASE WHEN u.createdAt > :startDate THEN 1 ELSE 0 END) as recent,
+            SUM(CASE WHEN u.status = 'ACTIVE' AND u.emailVerified = false THEN 1 ELSE 0 END) as pendingVerification
         )
         FROM User u 
         WHERE u.status != :deletedStatus
     """)
-    Object getUserStatistics(@Param("startDate") LocalDateTime startDate, @Param("deletedStatus") User.UserStatus deletedStatus);
+    java.util.Map<String, Object> getUserStatistics(@Param("startDate") LocalDateTime startDate, @Param("deletedStatus") User.UserStatus deletedStatus);
 
     /**
-     * Son giriş yapan kullanıcılar
+     * Admin kullanıcı listesi - kayıt tarihine göre ilk sayfa
      * Ek özellik (JavaScript'te yoktu)
      * 
-     * @param limit Kaç kullanıcı getirileceği
+     * Keyset sayfalama: sıralama (createdAt, id) DESC, idx_users_created_id_status ile
+     * birebir aynıdır. Sayfa boyutu pageable ile verilir (OFFSET her zaman 0).
+     * Taranan kullanıcılar second-level cache'e yazılmaz (CacheMode.GET).
+     * 
+     * @param statuses Listelenecek status'lar
+     * @param pageable Sadece sayfa boyutu (PageRequest.of(0, n))
+     * @return En yeni kayıtlar
+     */
+    @UseDataSourcePool(DataSourcePool.REPORTING)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "GET"))
+    @Query("SELECT u FROM User u WHERE u.status IN :statuses ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findPageByCreatedAt(@Param("statuses") Collection<User.UserStatus> statuses, Pageable pageable);
+
+    /**
+     * Admin kullanıcı listesi - kayıt tarihine göre cursor'dan sonraki sayfa
+     * Ek özellik (JavaScript'te yoktu)
+     * 
+     * Önceki sayfanın son satırından (createdAt, id) devam eder; sayfa ne kadar derin
+     * olursa olsun index'te cursor'a seek edilir, önceki satırlar okunmaz.
+     * 
+     * @param statuses Listelenecek status'lar
+     * @param createdAt Önceki sayfanın son kullanıcısının kayıt tarihi
+     * @param id Önceki sayfanın son kullanıcısının ID'si
+     * @param pageable Sadece sayfa boyutu (PageRequest.of(0, n))
+     * @return Cursor'dan daha eski kayıtlar
+     */
+    @UseDataSourcePool(DataSourcePool.REPORTING)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "GET"))
+    @Query("""
+        SELECT u FROM User u
+        WHERE u.status IN :statuses
+          AND (u.createdAt < :createdAt OR (u.createdAt = :createdAt AND u.id < :id))
+        ORDER BY u.createdAt DESC, u.id DESC
+    """)
+    List<User> findPageByCreatedAtBefore(@Param("statuses") Collection<User.UserStatus> statuses,
+                                         @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                         Pageable pageable);
+
+    /**
+     * Admin kullanıcı listesi - son girişe göre ilk sayfa
+     * Ek özellik (JavaScript'te yoktu - findRecentlyActiveUsers'ın OFFSET'siz karşılığı)
+     * 
+     * Hiç giriş yapmamış kullanıcılar bu sıralamada yer almaz.
+     * Sıralama (lastLoginAt, id) DESC, idx_users_last_login_id_status ile aynıdır.
+     * 
+     * @param statuses Listelenecek status'lar
+     * @param pageable Sadece sayfa boyutu (PageRequest.of(0, n))
      * @return Son giriş yapan kullanıcılar
      */
-    @Query("SELECT u FROM User u WHERE u.lastLoginAt IS NOT NULL AND u.status != :deletedStatus ORDER BY u.lastLoginAt DESC")
-    java.util.List<User> findRecentlyActiveUsers(@Param("deletedStatus") User.UserStatus deletedStatus, org.springframework.data.domain.Pageable pageable);
+    @UseDataSourcePool(DataSourcePool.REPORTING)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "GET"))
+    @Query("""
+        SELECT u FROM User u
+        WHERE u.status IN :statuses AND u.lastLoginAt IS NOT NULL
+        ORDER BY u.lastLoginAt DESC, u.id DESC
+    """)
+    List<User> findPageByLastLoginAt(@Param("statuses") Collection<User.UserStatus> statuses, Pageable pageable);
+
+    /**
+     * Admin kullanıcı listesi - son girişe göre cursor'dan sonraki sayfa
+     * Ek özellik (JavaScript'te yoktu)
+     * 
+     * Sayfalar arasında giriş yapan kullanıcı listenin başına taşınır; aynı kullanıcı
+     * iki sayfada görülmez ama o tarama boyunca listede tekrar görünmeyebilir.
+     * 
+     * @param statuses Listelenecek status'lar
+     * @param lastLoginAt Önceki sayfanın son kullanıcısının son giriş zamanı
+     * @param id Önceki sayfanın son kullanıcısının ID'si
+     * @param pageable Sadece sayfa boyutu (PageRequest.of(0, n))
+     * @return Cursor'dan daha önce giriş yapmış kullanıcılar
+     */
+    @UseDataSourcePool(DataSourcePool.REPORTING)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "GET"))
+    @Query("""
+        SELECT u FROM User u
+        WHERE u.status IN :statuses
+          AND (u.lastLoginAt < :lastLoginAt OR (u.lastLoginAt = :lastLoginAt AND u.id < :id))
+        ORDER BY u.lastLoginAt DESC, u.id DESC
+    """)
+    List<User> findPageByLastLoginAtBefore(@Param("statuses") Collection<User.UserStatus> statuses,
+                                           @Param("lastLoginAt") LocalDateTime lastLoginAt, @Param("id") Long id,
+                                           Pageable pageable);
+
+    /**
+     * Belirli bir tarihten sonra aktif olmaktan çıkan kullanıcıların ID'leri
+     * Stateless authentication modunda askıya alınan hesapların listesi için
+     * 
+     * Read-write transaction'da çalışır: replica'ya gitmez, askıya almalar replika
+     * gecikmesi kadar geç görülmez (SuspendedUserRegistry).
+     * 
+     * @param activeStatus Aktif status
+     * @param since Bu tarihten sonra güncellenenler
+     * @return Kullanıcı ID'leri
+     */
+    @Transactional
+    @Query("SELECT u.id FROM User u WHERE u.status != :activeStatus AND u.updatedAt > :since")
+    java.util.List<Long> findDeactivatedUserIdsSince(@Param("activeStatus") User.UserStatus activeStatus, @Param("since") LocalDateTime since);
 
     /**
      * Email doğrulaması bekleyen kullanıcılar
@@ -139,6 +250,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * 
      * @return Doğrulama bekleyen kullanıcı sayısı
      */
+    @UseDataSourcePool(DataSourcePool.REPORTING)
     @Query("SELECT COUNT(u) FROM User u WHERE u.emailVerified = false AND u.status = :activeStatus")
     long countPendingVerificationUsers(@Param("activeStatus") User.UserStatus activeStatus);
 }
@@ -0,0 +1,143 @@
+// 🔑 Adaptive Password Encoder - Donanıma göre kalibre edilen şifre hash'leme
+
+package com.aihukuk.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Adaptif Şifre Encoder'ı
+ * 
+ * JavaScript bcrypt.hash(password, saltRounds) karşılığı; saltRounds sabit değil,
+ * sunucunun donanımına göre başlangıçta belirlenir.
+ * 
+ * - Hash'ler "{id}hash" formatında saklanır (DelegatingPasswordEncoder): "{bcrypt}" veya "{argon2}"
+ * - Prefix'siz eski BCrypt hash'leri doğrulanmaya devam eder
+ * - upgradeEncoding(): hash farklı bir algoritmayla veya daha düşük bir cost ile üretildiyse true;
+ *   UserService login sırasında şifreyi yeni ayarlarla tekrar hash'ler
+ */
+public class AdaptivePasswordEncoder extends DelegatingPasswordEncoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptivePasswordEncoder.class);
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+
+    // Her cost için ölçüm sayısı; en yavaş ölçüm p99 yaklaşımı olarak kullanılır
+    private static final int CALIBRATION_SAMPLES = 5;
+
+    private final String idForEncode;
+    private final BCryptPasswordEncoder bcryptEncoder;
+
+    private AdaptivePasswordEncoder(String idForEncode, BCryptPasswordEncoder bcryptEncoder,
+                                    Map<String, PasswordEncoder> encoders) {
+        super(idForEncode, encoders);
+        this.idForEncode = idForEncode;
+        this.bcryptEncoder = bcryptEncoder;
+
+        // Prefix'siz eski hash'ler BCrypt ile üretilmişti
+        setDefaultPasswordEncoderForMatches(bcryptEncoder);
+    }
+
+    /**
+     * Encoder oluştur
+     * 
+     * @param idForEncode Yeni hash'ler için algoritma ("bcrypt" veya "argon2")
+     * @param bcryptRounds BCrypt cost
+     * @return Encoder
+     */
+    public static AdaptivePasswordEncoder create(String idForEncode, int bcryptRounds) {
+        BCryptPasswordEncoder bcryptEncoder = new BCryptPasswordEncoder(bcryptRounds);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, bcryptEncoder);
+        encoders.put(ARGON2, Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        if (!encoders.containsKey(idForEncode)) {
+            throw new IllegalArgumentException("Desteklenmeyen şifre algoritması: " + idForEncode);
+        }
+        return new AdaptivePasswordEncoder(idForEncode, bcryptEncoder, encoders);
+    }
+
+    /**
+     * Gecikme bütçesine sığan en yüksek BCrypt cost'unu bul
+     * 
+     * Cost minRounds'tan başlayarak artırılır; bir cost'un en yavaş ölçümü bütçeyi aşınca durulur.
+     * minRounds bütçeyi aşsa bile minRounds kullanılır (güvenlik alt sınırı).
+     * Her cost bir öncekinin yaklaşık iki katı sürer; bir sonraki cost'un ölçümü
+     * maxDurationMs'i aşacaksa o cost denenmez ve o ana kadar seçilen cost kullanılır
+     * (başlangıç süresi sınırlı kalır).
+     * 
+     * @param minRounds En düşük cost
+     * @param maxRounds En yüksek cost
+     * @param targetLatencyMs Hash başına gecikme bütçesi (ms)
+     * @param maxDurationMs Kalibrasyonun toplam süre sınırı (ms)
+     * @return Seçilen cost
+     */
+    public static int calibrateBCryptRounds(int minRounds, int maxRounds, long targetLatencyMs, long maxDurationMs) {
+        String sample = "calibration-" + System.nanoTime();
+        long calibrationStart = System.nanoTime();
+
+        // JIT ısınması
+        new BCryptPasswordEncoder(minRounds).encode(sample);
+
+        int selected = minRounds;
+        long selectedMs = 0;
+
+        for (int rounds = minRounds; rounds <= maxRounds; rounds++) {
+            if (rounds > minRounds) {
+                long elapsedMs = (System.nanoTime() - calibrationStart) / 1_000_000;
+                long predictedMs = selectedMs * 2 * CALIBRATION_SAMPLES;
+                if (elapsedMs + predictedMs >= maxDurationMs) {
+                    logger.info("BCrypt calibration stopped before cost {} ({} ms spent, limit {} ms)",
+                            rounds, elapsedMs, maxDurationMs);
+                    break;
+                }
+            }
+
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(rounds);
+            long slowestMs = 0;
+
+            for (int i = 0; i < CALIBRATION_SAMPLES && slowestMs <= targetLatencyMs; i++) {
+                long start = System.nanoTime();
+                encoder.encode(sample);
+                slowestMs = Math.max(slowestMs, (System.nanoTime() - start) / 1_000_000);
+            }
+
+            if (slowestMs > targetLatencyMs) {
+                if (rounds == minRounds) {
+                    selectedMs = slowestMs;
+                }
+                break;
+            }
+            selected = rounds;
+            selectedMs = slowestMs;
+        }
+
+        logger.info("BCrypt cost calibrated to {} (~{} ms per hash, budget {} ms, took {} ms)", selected, selectedMs,
+                targetLatencyMs, (System.nanoTime() - calibrationStart) / 1_000_000);
+        return selected;
+    }
+
+    /**
+     * Hash tekrar üretilmeli mi
+     * 
+     * Prefix'siz eski BCrypt hash'leri sadece cost'ları düşükse (veya yeni hash'ler
+     * başka bir algoritmayla üretiliyorsa) yenilenir; sırf prefix eklemek için
+     * daha düşük bir cost'a geçilmez.
+     */
+    @Override
+    public boolean upgradeEncoding(String prefixEncodedPassword) {
+        if (prefixEncodedPassword != null && !prefixEncodedPassword.startsWith("{")) {
+            return !BCRYPT.equals(idForEncode) || bcryptEncoder.upgradeEncoding(prefixEncodedPassword);
+        }
+        return super.upgradeEncoding(prefixEncodedPassword);
+    }
+}
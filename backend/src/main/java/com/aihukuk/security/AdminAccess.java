@@ -0,0 +1,48 @@
+// 🛡️ Admin Access - /v1/admin endpoint'lerine erişebilecek hesaplar
+
+package com.aihukuk.security;
+
+import com.aihukuk.util.EmailNormalizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Admin Erişim Kontrolü
+ *
+ * Ek özellik (JavaScript'te yoktu)
+ *
+ * Kullanıcılarda rol kolonu yoktur; admin hesapları admin.emails ile yapılandırılır.
+ * Admin controller metodları @PreAuthorize("@adminAccess.isAdmin(authentication)") ile
+ * korunur; yetkisiz istekler GlobalExceptionHandler'da 403 ACCESS_DENIED alır.
+ * Liste boşsa hiçbir hesap admin değildir.
+ */
+@Component("adminAccess")
+public class AdminAccess {
+
+    @Value("${admin.emails:}")
+    private List<String> adminEmails;
+
+    /**
+     * Kimliği doğrulanmış kullanıcı admin mi kontrol et
+     *
+     * @param authentication Spring Security authentication
+     * @return Email admin.emails içindeyse ve hesap aktifse true
+     */
+    public boolean isAdmin(Authentication authentication) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal principal)) {
+            return false;
+        }
+        if (!principal.isActive() || principal.getEmail() == null) {
+            return false;
+        }
+
+        // Liste birkaç adres içerir; her istekte normalize edip karşılaştırmak yeterli
+        String email = EmailNormalizer.normalize(principal.getEmail());
+        return adminEmails.stream()
+                .map(EmailNormalizer::normalize)
+                .anyMatch(email::equals);
+    }
+}
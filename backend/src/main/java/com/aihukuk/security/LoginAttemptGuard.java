@@ -0,0 +1,190 @@
+// 🛡️ Login Attempt Guard - Başarısız giriş denemelerine karşı üstel bekleme
+
+package com.aihukuk.security;
+
+import com.aihukuk.util.EmailNormalizer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Giriş Denemesi Koruması
+ *
+ * Ek özellik (JavaScript'te yoktu - credential stuffing koruması)
+ *
+ * Her login BCrypt karşılaştırması (~250 ms CPU) yaptığı için, karar şifre kontrolünden
+ * önce verilir; engellenen deneme hiç hash hesaplatmaz.
+ *
+ * - (email, IP) çifti başına: free-attempts başarısız denemeden sonra üstel bekleme
+ * - IP başına: ip-free-attempts başarısız denemeden sonra üstel bekleme
+ *   (tek IP'den çok sayıda farklı email denenmesine karşı)
+ * - Bekleme süresi base-lockout-ms'den başlar, her başarısız denemede ikiye katlanır,
+ *   max-lockout-ms ile sınırlıdır
+ * - Sayaçlar boyut sınırlı Caffeine cache'lerde tutulur ve reset-after-seconds
+ *   boyunca deneme gelmezse silinir
+ * - Engellenen denemeler "auth.login.blocked" metriğiyle sayılır
+ */
+@Component
+public class LoginAttemptGuard {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${login-guard.enabled:true}")
+    private boolean enabled;
+
+    @Value("${login-guard.free-attempts:5}")
+    private int freeAttempts;
+
+    @Value("${login-guard.ip-free-attempts:50}")
+    private int ipFreeAttempts;
+
+    @Value("${login-guard.base-lockout-ms:1000}")
+    private long baseLockoutMs;
+
+    @Value("${login-guard.max-lockout-ms:900000}")
+    private long maxLockoutMs;
+
+    @Value("${login-guard.reset-after-seconds:900}")
+    private long resetAfterSeconds;
+
+    @Value("${login-guard.maximum-size:100000}")
+    private long maximumSize;
+
+    // Key: normalize edilmiş email + "|" + IP
+    private Cache<String, Attempts> attemptsByEmailAndIp;
+
+    // Key: IP
+    private Cache<String, Attempts> attemptsByIp;
+
+    private Counter blockedByEmailAndIpCounter;
+    private Counter blockedByIpCounter;
+
+    /**
+     * Bir anahtarın başarısız deneme durumu
+     */
+    private static final class Attempts {
+        private int failures;
+        private long blockedUntil;
+
+        private synchronized long remainingBlockMs(long now) {
+            return Math.max(0, blockedUntil - now);
+        }
+
+        private synchronized void recordFailure(long now, int freeAttempts, long baseLockoutMs, long maxLockoutMs) {
+            failures++;
+            if (failures > freeAttempts) {
+                int exponent = Math.min(failures - freeAttempts - 1, 30);
+                blockedUntil = now + Math.min(baseLockoutMs << exponent, maxLockoutMs);
+            }
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        attemptsByEmailAndIp = newAttemptsCache();
+        attemptsByIp = newAttemptsCache();
+
+        blockedByEmailAndIpCounter = blockedCounter("email_ip");
+        blockedByIpCounter = blockedCounter("ip");
+    }
+
+    /**
+     * Giriş denemesi şu an engelli mi
+     *
+     * @param email Email adresi
+     * @param ip İstemci IP'si
+     * @return Engelliyse kalan bekleme süresi (ms), değilse 0
+     */
+    public long getRemainingBlockMs(String email, String ip) {
+        return getRemainingBlockMs(email, ip, System.currentTimeMillis());
+    }
+
+    /**
+     * getRemainingBlockMs, verilen ana göre (testler saati kendisi ilerletir)
+     */
+    long getRemainingBlockMs(String email, String ip, long now) {
+        if (!enabled) {
+            return 0;
+        }
+
+        Attempts pairAttempts = attemptsByEmailAndIp.getIfPresent(pairKey(email, ip));
+        long pairBlockMs = pairAttempts != null ? pairAttempts.remainingBlockMs(now) : 0;
+        if (pairBlockMs > 0) {
+            blockedByEmailAndIpCounter.increment();
+            return pairBlockMs;
+        }
+
+        Attempts ipAttempts = attemptsByIp.getIfPresent(ip);
+        long ipBlockMs = ipAttempts != null ? ipAttempts.remainingBlockMs(now) : 0;
+        if (ipBlockMs > 0) {
+            blockedByIpCounter.increment();
+        }
+        return ipBlockMs;
+    }
+
+    /**
+     * Başarısız giriş denemesini kaydet
+     *
+     * @param email Email adresi
+     * @param ip İstemci IP'si
+     */
+    public void recordFailure(String email, String ip) {
+        recordFailure(email, ip, System.currentTimeMillis());
+    }
+
+    /**
+     * recordFailure, verilen ana göre
+     */
+    void recordFailure(String email, String ip, long now) {
+        if (!enabled) {
+            return;
+        }
+
+        attemptsByEmailAndIp.get(pairKey(email, ip), key -> new Attempts())
+                .recordFailure(now, freeAttempts, baseLockoutMs, maxLockoutMs);
+        attemptsByIp.get(ip, key -> new Attempts())
+                .recordFailure(now, ipFreeAttempts, baseLockoutMs, maxLockoutMs);
+    }
+
+    /**
+     * Başarılı girişte (email, IP) sayacını sıfırla
+     * IP sayacı korunur; tek başarılı giriş diğer hesaplara yapılan denemeleri silmemeli
+     *
+     * @param email Email adresi
+     * @param ip İstemci IP'si
+     */
+    public void recordSuccess(String email, String ip) {
+        if (enabled) {
+            attemptsByEmailAndIp.invalidate(pairKey(email, ip));
+        }
+    }
+
+    // Helper Methods
+
+    private Cache<String, Attempts> newAttemptsCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(Duration.ofSeconds(resetAfterSeconds))
+                .build();
+    }
+
+    private Counter blockedCounter(String scope) {
+        return Counter.builder("auth.login.blocked")
+                .description("Başarısız deneme limiti nedeniyle engellenen girişler")
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+
+    private static String pairKey(String email, String ip) {
+        String normalizedEmail = email != null ? EmailNormalizer.normalize(email) : "";
+        return normalizedEmail + "|" + ip;
+    }
+}
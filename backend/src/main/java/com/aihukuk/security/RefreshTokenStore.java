@@ -0,0 +1,360 @@
+// 🔄 Refresh Token Store - Refresh token rotation ve tekrar kullanım tespiti
+
+package com.aihukuk.security;
+
+import com.aihukuk.entity.RefreshToken;
+import com.aihukuk.entity.User;
+import com.aihukuk.repository.RefreshTokenRepository;
+import com.aihukuk.util.JwtUtil;
+import com.aihukuk.util.VerifiedRefreshToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Refresh Token Store
+ * 
+ * Ek özellik (JavaScript'te yoktu - refresh token rotation)
+ * 
+ * - Login/register yeni bir token ailesi başlatır; her refresh işleminde gelen token
+ *   kullanıldı olarak işaretlenir ve aynı aileden yeni bir refresh token üretilir
+ * - Kullanılmış bir token tekrar gelirse (çalınmış token) aile iptal edilir,
+ *   aileden türeyen hiçbir token artık yenilenemez
+ * - Sıcak kontrol bellekten yapılır (Caffeine); bellekte olmayan token'lar
+ *   (yeniden başlatma, başka node) refresh_tokens tablosundan yüklenir
+ * - Yazmalar istek içinde yapılmaz; sıraya alınır ve periyodik olarak JDBC batch ile
+ *   yazılır. Çok sayıda access token aynı anda sona erdiğinde oluşan refresh yoğunluğu
+ *   tek tek senkron INSERT/UPDATE'e dönüşmez.
+ * 
+ * Sınırlar: aynı token'ın iki farklı node'da eşzamanlı kullanımı ve başka node'daki
+ * aile iptalleri, ilgili kayıt o node'un belleğinde zaten varsa yakalanmaz.
+ */
+@Service
+public class RefreshTokenStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenStore.class);
+
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO refresh_tokens (token_id, family_id, user_id, expires_at, created_at) " +
+            "VALUES (?, ?, ?, ?, ?)";
+    private static final String MARK_USED_SQL =
+            "UPDATE refresh_tokens SET used_at = ? WHERE token_id = ? AND used_at IS NULL";
+    private static final String REVOKE_FAMILY_SQL =
+            "UPDATE refresh_tokens SET revoked_at = ? WHERE family_id = ? AND revoked_at IS NULL";
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${refresh-tokens.cache-maximum-size:1000000}")
+    private long cacheMaximumSize;
+
+    @Value("${refresh-tokens.batch-size:500}")
+    private int batchSize;
+
+    @Value("${refresh-tokens.max-pending-writes:20000}")
+    private int maxPendingWrites;
+
+    // Key: token ID (jti)
+    private Cache<String, TokenState> tokens;
+
+    // İptal edilmiş aileler
+    private Cache<String, Boolean> revokedFamilies;
+
+    // Write-behind kuyruğu; sıra korunur (bir token'ın INSERT'i UPDATE'inden önce yazılır)
+    private final Queue<PendingWrite> pendingWrites = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingWriteCount = new AtomicInteger();
+
+    // Yazılamayan batch bir sonraki flush'ta tekrar denenir
+    private List<PendingWrite> failedBatch = List.of();
+
+    private Counter reuseDetectedCounter;
+
+    /**
+     * Bellekteki token durumu
+     */
+    private static final class TokenState {
+        private final String familyId;
+        private final AtomicBoolean used;
+
+        private TokenState(String familyId, boolean used) {
+            this.familyId = familyId;
+            this.used = new AtomicBoolean(used);
+        }
+    }
+
+    private enum WriteType { INSERT, MARK_USED, REVOKE_FAMILY }
+
+    private record PendingWrite(WriteType type, String tokenId, String familyId, Long userId,
+                                LocalDateTime expiresAt, LocalDateTime at) {
+    }
+
+    /**
+     * Rotation sonucu
+     * 
+     * @param accepted Token yenilenebilir mi
+     * @param familyId Yeni token'ın ailesi
+     */
+    public record Rotation(boolean accepted, String familyId) {
+
+        static Rotation accepted(String familyId) {
+            return new Rotation(true, familyId);
+        }
+
+        static Rotation rejected() {
+            return new Rotation(false, null);
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        Duration refreshTokenLifetime = Duration.ofSeconds(jwtUtil.getRefreshTokenExpiresIn());
+
+        tokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(refreshTokenLifetime)
+                .build();
+        revokedFamilies = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(refreshTokenLifetime)
+                .build();
+
+        reuseDetectedCounter = Counter.builder("auth.refresh.reuse_detected")
+                .description("Tekrar kullanılan refresh token sayısı")
+                .register(meterRegistry);
+        Gauge.builder("auth.refresh.pending_writes", pendingWriteCount, AtomicInteger::get)
+                .description("Veritabanına yazılmayı bekleyen refresh token işlemleri")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Yeni token ailesi başlatarak refresh token üret (login, register)
+     * 
+     * @param user Kullanıcı
+     * @return JWT Refresh Token
+     */
+    public String issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Verilen aileden refresh token üret
+     * 
+     * @param user Kullanıcı
+     * @param familyId Token ailesi
+     * @return JWT Refresh Token
+     */
+    public String issue(User user, String familyId) {
+        String tokenId = UUID.randomUUID().toString();
+        String refreshToken = jwtUtil.generateRefreshToken(user, tokenId, familyId);
+
+        LocalDateTime now = LocalDateTime.now();
+        tokens.put(tokenId, new TokenState(familyId, false));
+        enqueue(new PendingWrite(WriteType.INSERT, tokenId, familyId, user.getId(),
+                now.plusSeconds(jwtUtil.getRefreshTokenExpiresIn()), now));
+
+        return refreshToken;
+    }
+
+    /**
+     * Refresh token'ı kullanıldı olarak işaretle
+     * 
+     * Token daha önce kullanılmışsa ailesi iptal edilir ve istek reddedilir.
+     * Rotation öncesi üretilmiş (fid'siz) veya kaydı bulunamayan token'lar
+     * bu noktadan itibaren takip edilir.
+     * 
+     * @param token Doğrulanmış refresh token
+     * @return Rotation sonucu
+     */
+    public Rotation rotate(VerifiedRefreshToken token) {
+        String tokenId = token.getTokenId();
+        if (tokenId == null) {
+            // jti'siz eski token: takip edilemez, yeni aile başlatılır
+            return Rotation.accepted(UUID.randomUUID().toString());
+        }
+
+        String presentedFamilyId = token.getFamilyId() != null
+                ? token.getFamilyId() : UUID.randomUUID().toString();
+        TokenState state = tokens.get(tokenId, id -> load(id, presentedFamilyId, token));
+
+        if (revokedFamilies.getIfPresent(state.familyId) != null) {
+            return Rotation.rejected();
+        }
+
+        if (!state.used.compareAndSet(false, true)) {
+            reuseDetectedCounter.increment();
+            logger.warn("Refresh token reuse detected for user {}, revoking token family {}",
+                    token.getUserId(), state.familyId);
+            revokeFamily(state.familyId);
+            return Rotation.rejected();
+        }
+
+        enqueue(new PendingWrite(WriteType.MARK_USED, tokenId, state.familyId, token.getUserId(),
+                null, LocalDateTime.now()));
+        return Rotation.accepted(state.familyId);
+    }
+
+    /**
+     * Token ailesini iptal et
+     * 
+     * @param familyId Token ailesi
+     */
+    public void revokeFamily(String familyId) {
+        revokedFamilies.put(familyId, Boolean.TRUE);
+        enqueue(new PendingWrite(WriteType.REVOKE_FAMILY, null, familyId, null, null, LocalDateTime.now()));
+    }
+
+    /**
+     * Bekleyen yazmaları JDBC batch ile veritabanına yaz
+     */
+    @Scheduled(fixedDelayString = "${refresh-tokens.flush-interval-ms:500}")
+    public synchronized void flush() {
+        if (!writeBatch(failedBatch)) {
+            return;
+        }
+        failedBatch = List.of();
+
+        List<PendingWrite> batch = new ArrayList<>(batchSize);
+        PendingWrite write;
+        while ((write = pendingWrites.poll()) != null) {
+            pendingWriteCount.decrementAndGet();
+            batch.add(write);
+
+            if (batch.size() >= batchSize) {
+                if (!writeBatch(batch)) {
+                    failedBatch = batch;
+                    return;
+                }
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+
+        if (!writeBatch(batch)) {
+            failedBatch = batch;
+        }
+    }
+
+    /**
+     * Kapanışta bekleyen yazmaları kaybetme
+     */
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    /**
+     * Süresi dolmuş kayıtları tablodan temizle
+     */
+    @Scheduled(fixedDelayString = "${refresh-tokens.purge-interval-ms:3600000}",
+               initialDelayString = "${refresh-tokens.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        try {
+            int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+            if (deleted > 0) {
+                logger.info("Purged {} expired refresh tokens", deleted);
+            }
+        } catch (Exception e) {
+            logger.warn("Refresh token purge failed: {}", e.getMessage());
+        }
+    }
+
+    // Helper Methods
+
+    private TokenState load(String tokenId, String familyId, VerifiedRefreshToken token) {
+        RefreshToken record = refreshTokenRepository.findByTokenId(tokenId).orElse(null);
+
+        if (record == null) {
+            // Rotation öncesi üretilmiş veya henüz yazılmamış token: bundan sonra takip et
+            enqueue(new PendingWrite(WriteType.INSERT, tokenId, familyId, token.getUserId(),
+                    toLocalDateTime(token.getExpiration().getTime()), LocalDateTime.now()));
+            return new TokenState(familyId, false);
+        }
+
+        if (record.getRevokedAt() != null) {
+            revokedFamilies.put(record.getFamilyId(), Boolean.TRUE);
+        }
+        return new TokenState(record.getFamilyId(), record.getUsedAt() != null);
+    }
+
+    private void enqueue(PendingWrite write) {
+        pendingWrites.add(write);
+
+        // Veritabanı geride kalırsa kuyruğu istek içinde boşalt (backpressure)
+        if (pendingWriteCount.incrementAndGet() > maxPendingWrites) {
+            flush();
+        }
+    }
+
+    private boolean writeBatch(List<PendingWrite> batch) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> usedMarks = new ArrayList<>();
+        List<Object[]> familyRevocations = new ArrayList<>();
+
+        for (PendingWrite write : batch) {
+            switch (write.type()) {
+                case INSERT -> inserts.add(new Object[] {
+                        write.tokenId(), write.familyId(), write.userId(),
+                        Timestamp.valueOf(write.expiresAt()), Timestamp.valueOf(write.at()) });
+                case MARK_USED -> usedMarks.add(new Object[] { Timestamp.valueOf(write.at()), write.tokenId() });
+                case REVOKE_FAMILY -> familyRevocations.add(new Object[] { Timestamp.valueOf(write.at()), write.familyId() });
+            }
+        }
+
+        try {
+            // Batch içindeki UPDATE'ler aynı batch'teki veya önceki INSERT'lere dayanır
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+            }
+            if (!usedMarks.isEmpty()) {
+                jdbcTemplate.batchUpdate(MARK_USED_SQL, usedMarks);
+            }
+            if (!familyRevocations.isEmpty()) {
+                jdbcTemplate.batchUpdate(REVOKE_FAMILY_SQL, familyRevocations);
+            }
+            return true;
+        } catch (Exception e) {
+            logger.warn("Refresh token write-behind failed ({} pending): {}", batch.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(new Date(epochMillis).toInstant(), ZoneId.systemDefault());
+    }
+}
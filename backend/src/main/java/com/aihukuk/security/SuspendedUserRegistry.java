@@ -0,0 +1,163 @@
+// 🚫 Suspended User Registry - Stateless authentication için askıya alınmış hesaplar
+
+package com.aihukuk.security;
+
+import com.aihukuk.entity.User;
+import com.aihukuk.repository.UserRepository;
+import com.aihukuk.util.JwtUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Askıya Alınmış Kullanıcı Kaydı
+ * 
+ * Stateless (claims-only) authentication modunda her istekte veritabanına gidilmez;
+ * token geçerliliği boyunca askıya alınan/silinen hesaplar bu kayıt ile engellenir.
+ * 
+ * - Sadece son access token ömrü içinde aktif olmaktan çıkan kullanıcılar tutulur
+ *   (daha önce çıkanların token'ları zaten süresi dolmuş olur)
+ * - ID'ler sıralı bir long[] dizisinde tutulur: kompakt ve kilitsiz okuma (binary search)
+ * - Liste periyodik olarak veritabanından yenilenir, yerel değişiklikler anında uygulanır
+ * - Yenileme sorgusu sürerken yapılan yerel değişiklikler sorgu sonucunun üzerine tekrar
+ *   uygulanır; sorgu başlamadan önce commit edilmemiş bir askıya alma kaybolmaz
+ */
+@Component
+public class SuspendedUserRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(SuspendedUserRegistry.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Value("${jwt.stateless-auth.enabled:false}")
+    private boolean statelessAuthEnabled;
+
+    // Sıralı kullanıcı ID'leri (copy-on-write)
+    private volatile long[] suspendedUserIds = new long[0];
+
+    // Yenileme sorgusu sürerken yapılan yerel değişiklikler (true: askıda, false: aktif)
+    private final Map<Long, Boolean> changesDuringRefresh = new HashMap<>();
+    private boolean refreshing;
+
+    /**
+     * Kullanıcı askıya alınmış veya silinmiş mi kontrol et
+     * 
+     * @param userId Kullanıcı ID'si
+     * @return Engellenmesi gerekiyorsa true
+     */
+    public boolean isSuspended(long userId) {
+        return Arrays.binarySearch(suspendedUserIds, userId) >= 0;
+    }
+
+    /**
+     * Kullanıcıyı engellenenler listesine ekle (bu node'da anında etkili)
+     * 
+     * @param userId Kullanıcı ID'si
+     */
+    public synchronized void markSuspended(long userId) {
+        if (refreshing) {
+            changesDuringRefresh.put(userId, true);
+        }
+        suspendedUserIds = withId(suspendedUserIds, userId);
+    }
+
+    /**
+     * Kullanıcıyı engellenenler listesinden çıkar (hesap tekrar aktif edildiğinde)
+     * 
+     * @param userId Kullanıcı ID'si
+     */
+    public synchronized void markActive(long userId) {
+        if (refreshing) {
+            changesDuringRefresh.put(userId, false);
+        }
+        suspendedUserIds = withoutId(suspendedUserIds, userId);
+    }
+
+    /**
+     * Listeyi veritabanından yenile
+     * Diğer node'larda yapılan status değişikliklerini de yakalar
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${jwt.stateless-auth.suspended-refresh-ms:30000}")
+    public void refresh() {
+        if (!statelessAuthEnabled) {
+            return;
+        }
+
+        synchronized (this) {
+            changesDuringRefresh.clear();
+            refreshing = true;
+        }
+
+        try {
+            LocalDateTime since = LocalDateTime.now().minusSeconds(jwtUtil.getAccessTokenExpiresIn());
+            List<Long> ids = userRepository.findDeactivatedUserIdsSince(User.UserStatus.ACTIVE, since);
+
+            long[] loaded = ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+            synchronized (this) {
+                // Sorgu bu değişiklikleri görmemiş olabilir (commit öncesi veya sorgudan sonra)
+                for (Map.Entry<Long, Boolean> change : changesDuringRefresh.entrySet()) {
+                    loaded = change.getValue()
+                            ? withId(loaded, change.getKey())
+                            : withoutId(loaded, change.getKey());
+                }
+                suspendedUserIds = loaded;
+            }
+        } catch (Exception e) {
+            // Yenileme başarısızsa mevcut liste korunur
+            logger.warn("Suspended user registry refresh failed: {}", e.getMessage());
+        } finally {
+            synchronized (this) {
+                refreshing = false;
+                changesDuringRefresh.clear();
+            }
+        }
+    }
+
+    /**
+     * Engellenen kullanıcı sayısı
+     */
+    public int size() {
+        return suspendedUserIds.length;
+    }
+
+    // Helper Methods
+
+    private static long[] withId(long[] ids, long userId) {
+        int index = Arrays.binarySearch(ids, userId);
+        if (index >= 0) {
+            return ids;
+        }
+
+        int insertAt = -index - 1;
+        long[] updated = new long[ids.length + 1];
+        System.arraycopy(ids, 0, updated, 0, insertAt);
+        updated[insertAt] = userId;
+        System.arraycopy(ids, insertAt, updated, insertAt + 1, ids.length - insertAt);
+        return updated;
+    }
+
+    private static long[] withoutId(long[] ids, long userId) {
+        int index = Arrays.binarySearch(ids, userId);
+        if (index < 0) {
+            return ids;
+        }
+
+        long[] updated = new long[ids.length - 1];
+        System.arraycopy(ids, 0, updated, 0, index);
+        System.arraycopy(ids, index + 1, updated, index, ids.length - index - 1);
+        return updated;
+    }
+}
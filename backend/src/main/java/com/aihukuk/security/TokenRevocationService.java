@@ -0,0 +1,238 @@
+// 🚫 Token Revocation Service - Logout sonrası token iptal listesi
+
+package com.aihukuk.security;
+
+import com.aihukuk.entity.RevokedToken;
+import com.aihukuk.repository.RevokedTokenRepository;
+import com.aihukuk.util.BloomFilter;
+import com.aihukuk.util.JwtUtil;
+import com.aihukuk.util.VerifiedAccessToken;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token İptal Servisi
+ * 
+ * JavaScript logout'taki "TODO: token blacklisting" maddesinin karşılığı
+ * 
+ * - Tek token iptali (jti) ve kullanıcının belirli bir andan önceki tüm token'larının iptali
+ * - Kontrol önce Bloom filter'dan geçer: iptal edilmemiş token'lar (isteklerin neredeyse tamamı)
+ *   tek bir bellek okumasıyla elenir, kesin küme sadece Bloom filter "muhtemelen var" derse okunur
+ * - Kayıtlar token'ın geçerlilik sonunda otomatik düşer
+ * - İptaller revoked_tokens tablosuna yazılır; başlangıçta liste bu tablodan yeniden oluşturulur,
+ *   diğer node'ların eklediği iptaller periyodik olarak yüklenir
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Value("${token-revocation.expected-revocations:100000}")
+    private long expectedRevocations;
+
+    @Value("${token-revocation.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    @Value("${token-revocation.sync-interval-ms:10000}")
+    private long syncIntervalMs;
+
+    // Kesin küme: jti -> geçerlilik sonu (epoch ms)
+    private final Map<String, Long> revokedTokenIds = new ConcurrentHashMap<>();
+
+    // Kullanıcı bazlı iptaller: userId -> iptal kaydı
+    private final Map<Long, UserRevocation> userRevocations = new ConcurrentHashMap<>();
+
+    // Ön filtre (jti'ler ve kullanıcı ID'leri); silme gerektiğinde yeniden oluşturulur
+    private volatile BloomFilter bloomFilter;
+
+    // Son senkronizasyon zamanı (null ise tam yükleme yapılır)
+    private LocalDateTime lastSyncAt;
+
+    /**
+     * Kullanıcı bazlı iptal: revokedBeforeMillis ve öncesinde üretilen token'lar geçersiz
+     * Karşılaştırma milisaniye hassasiyetindedir (JwtUtil.ISSUED_AT_MILLIS_CLAIM); iptalden
+     * hemen sonra (ör. tüm cihazlardan çıkış veya şifre değişikliği ardından tekrar giriş)
+     * üretilen token'lar geçerli kalır.
+     */
+    private record UserRevocation(long revokedBeforeMillis, long expiresAtMillis) {
+    }
+
+    @PostConstruct
+    void init() {
+        bloomFilter = new BloomFilter(expectedRevocations, falsePositiveRate);
+        sync();
+    }
+
+    /**
+     * Access token iptal edilmiş mi kontrol et
+     * 
+     * @param token Doğrulanmış access token
+     * @return İptal edilmişse true
+     */
+    public boolean isRevoked(VerifiedAccessToken token) {
+        return isRevoked(token.getTokenId(), token.getUserId(), token.getIssuedAt());
+    }
+
+    /**
+     * Token iptal edilmiş mi kontrol et
+     * 
+     * @param tokenId Token ID (jti), yoksa null
+     * @param userId Kullanıcı ID'si, yoksa null
+     * @param issuedAt Token üretilme zamanı (milisaniye hassasiyetinde, bkz. VerifiedAccessToken.getIssuedAt)
+     * @return İptal edilmişse true
+     */
+    public boolean isRevoked(String tokenId, Long userId, Date issuedAt) {
+        BloomFilter filter = bloomFilter;
+
+        if (tokenId != null && filter.mightContain(tokenId)) {
+            Long expiresAt = revokedTokenIds.get(tokenId);
+            if (expiresAt != null && expiresAt > System.currentTimeMillis()) {
+                return true;
+            }
+        }
+
+        if (userId != null && issuedAt != null && filter.mightContain(userId.longValue())) {
+            UserRevocation revocation = userRevocations.get(userId);
+            if (revocation != null && revocation.expiresAtMillis() > System.currentTimeMillis()) {
+                return issuedAt.getTime() <= revocation.revokedBeforeMillis();
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Tek bir token'ı iptal et (logout)
+     * 
+     * @param tokenId Token ID (jti)
+     * @param userId Kullanıcı ID'si
+     * @param expiresAt Token'ın geçerlilik sonu
+     */
+    public void revokeToken(String tokenId, Long userId, Date expiresAt) {
+        if (tokenId == null || expiresAt == null || expiresAt.getTime() <= System.currentTimeMillis()) {
+            return; // jti'siz (eski) veya süresi dolmuş token için kayıt gerekmez
+        }
+
+        revokedTokenRepository.save(RevokedToken.forToken(tokenId, userId, toLocalDateTime(expiresAt.getTime())));
+        applyTokenRevocation(tokenId, expiresAt.getTime());
+    }
+
+    /**
+     * Kullanıcının şu ana kadar üretilmiş tüm token'larını iptal et
+     * (tüm cihazlardan çıkış, şifre değişikliği)
+     * 
+     * @param userId Kullanıcı ID'si
+     */
+    public void revokeAllForUser(Long userId) {
+        long now = System.currentTimeMillis();
+        // Refresh token'lar da bu kayıtla kontrol edildiği için en uzun token ömrü kadar tutulur
+        long expiresAt = now + Math.max(jwtUtil.getAccessTokenExpiresIn(), jwtUtil.getRefreshTokenExpiresIn()) * 1000;
+
+        revokedTokenRepository.save(RevokedToken.forUser(userId, toLocalDateTime(now), toLocalDateTime(expiresAt)));
+        applyUserRevocation(userId, now, expiresAt);
+    }
+
+    /**
+     * Diğer node'ların eklediği iptalleri yükle
+     * İlk çalıştırmada (veya önceki yükleme başarısızsa) tüm tablo yüklenir
+     */
+    @Scheduled(fixedDelayString = "${token-revocation.sync-interval-ms:10000}",
+               initialDelayString = "${token-revocation.sync-interval-ms:10000}")
+    public void sync() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<RevokedToken> records = lastSyncAt == null
+                    ? revokedTokenRepository.findByExpiresAtAfter(now)
+                    // Geç commit edilen kayıtları kaçırmamak için bir senkronizasyon aralığı geriye bakılır
+                    : revokedTokenRepository.findByCreatedAtAfterAndExpiresAtAfter(
+                            lastSyncAt.minusNanos(syncIntervalMs * 1_000_000), now);
+
+            for (RevokedToken record : records) {
+                apply(record);
+            }
+            lastSyncAt = now;
+        } catch (Exception e) {
+            logger.warn("Token revocation sync failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Süresi dolmuş kayıtları bellekten ve tablodan temizle, Bloom filter'ı yeniden oluştur
+     */
+    @Scheduled(fixedDelayString = "${token-revocation.purge-interval-ms:600000}",
+               initialDelayString = "${token-revocation.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+
+        synchronized (this) {
+            revokedTokenIds.values().removeIf(expiresAt -> expiresAt <= now);
+            userRevocations.values().removeIf(revocation -> revocation.expiresAtMillis() <= now);
+
+            BloomFilter rebuilt = new BloomFilter(
+                    Math.max(expectedRevocations, revokedTokenIds.size() + userRevocations.size()), falsePositiveRate);
+            revokedTokenIds.keySet().forEach(rebuilt::put);
+            userRevocations.keySet().forEach(rebuilt::put);
+            bloomFilter = rebuilt;
+        }
+
+        try {
+            int deleted = revokedTokenRepository.deleteExpired(toLocalDateTime(now));
+            if (deleted > 0) {
+                logger.info("Purged {} expired token revocations", deleted);
+            }
+        } catch (Exception e) {
+            logger.warn("Token revocation purge failed: {}", e.getMessage());
+        }
+    }
+
+    // Helper Methods
+
+    private void apply(RevokedToken record) {
+        long expiresAt = toEpochMillis(record.getExpiresAt());
+
+        if (record.getTokenId() != null) {
+            applyTokenRevocation(record.getTokenId(), expiresAt);
+        } else if (record.getUserId() != null && record.getRevokedBefore() != null) {
+            applyUserRevocation(record.getUserId(), toEpochMillis(record.getRevokedBefore()), expiresAt);
+        }
+    }
+
+    private synchronized void applyTokenRevocation(String tokenId, long expiresAtMillis) {
+        // Önce kesin kümeye, sonra Bloom filter'a: filtre "var" dediğinde kayıt mutlaka bulunur
+        revokedTokenIds.put(tokenId, expiresAtMillis);
+        bloomFilter.put(tokenId);
+    }
+
+    private synchronized void applyUserRevocation(Long userId, long revokedBeforeMillis, long expiresAtMillis) {
+        userRevocations.merge(userId, new UserRevocation(revokedBeforeMillis, expiresAtMillis),
+                (existing, added) -> added.revokedBeforeMillis() >= existing.revokedBeforeMillis()
+                        ? added : existing);
+        bloomFilter.put(userId.longValue());
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(new Date(epochMillis).toInstant(), ZoneId.systemDefault());
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,153 @@
+// 👤 User Principal - JavaScript req.user objesinin Spring Security karşılığı
+
+package com.aihukuk.security;
+
+import com.aihukuk.entity.User;
+import com.aihukuk.util.VerifiedAccessToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Kimliği doğrulanmış kullanıcı (Security context principal'ı)
+ * 
+ * JavaScript authenticateToken middleware'inin req.user'a koyduğu bilgilerin karşılığı
+ * 
+ * İki kaynaktan oluşturulabilir:
+ * - fromUser() -> Veritabanındaki User entity'sinden
+ * - fromToken() -> İmzası doğrulanmış access token claim'lerinden (DB'ye gitmeden)
+ * 
+ * Şifre hash'i taşımaz; şifre kontrolü UserService.authenticateUser içinde yapılır.
+ */
+public final class UserPrincipal implements UserDetails {
+
+    // Temel kullanıcı rolü (tüm kullanıcılar için paylaşılan tek instance)
+    private static final List<GrantedAuthority> USER_AUTHORITIES = AuthorityUtils.createAuthorityList("USER");
+
+    private final Long id;
+    private final String uuid;
+    private final String email;
+    private final boolean emailVerified;
+    private final User.UserStatus status;
+
+    private UserPrincipal(Long id, String uuid, String email, boolean emailVerified, User.UserStatus status) {
+        this.id = id;
+        this.uuid = uuid;
+        this.email = email;
+        this.emailVerified = emailVerified;
+        this.status = status;
+    }
+
+    /**
+     * User entity'sinden principal oluştur
+     * 
+     * @param user Veritabanından gelen kullanıcı
+     * @return Principal
+     */
+    public static UserPrincipal fromUser(User user) {
+        return new UserPrincipal(
+                user.getId(),
+                user.getUuid(),
+                user.getEmail(),
+                Boolean.TRUE.equals(user.getEmailVerified()),
+                user.getStatus()
+        );
+    }
+
+    /**
+     * Doğrulanmış access token claim'lerinden principal oluştur
+     * Token sadece aktif kullanıcılara verildiği için status ACTIVE kabul edilir;
+     * sonradan askıya alınan hesaplar SuspendedUserRegistry ile engellenir.
+     * 
+     * @param verifiedToken İmzası doğrulanmış token
+     * @return Principal
+     */
+    public static UserPrincipal fromToken(VerifiedAccessToken verifiedToken) {
+        return new UserPrincipal(
+                verifiedToken.getUserId(),
+                verifiedToken.getUuid(),
+                verifiedToken.getSubject(),
+                Boolean.TRUE.equals(verifiedToken.getEmailVerified()),
+                User.UserStatus.ACTIVE
+        );
+    }
+
+    // Getters
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getUuid() {
+        return uuid;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public boolean isEmailVerified() {
+        return emailVerified;
+    }
+
+    public User.UserStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Kullanıcı aktif mi kontrol et
+     * JavaScript user.status === 'active' kontrolünün karşılığı
+     */
+    public boolean isActive() {
+        return User.UserStatus.ACTIVE.equals(status);
+    }
+
+    // UserDetails implementasyonu
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return USER_AUTHORITIES;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return isActive();
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return !User.UserStatus.DELETED.equals(status);
+    }
+
+    @Override
+    public String toString() {
+        return "UserPrincipal{" +
+                "id=" + id +
+                ", email='" + email + '\'' +
+                ", status=" + status +
+                '}';
+    }
+}
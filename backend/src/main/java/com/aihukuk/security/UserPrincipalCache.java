@@ -0,0 +1,104 @@
+// ⚡ User Principal Cache - Kullanıcı kimlik bilgileri için bellek içi cache
+
+package com.aihukuk.security;
+
+import com.aihukuk.entity.User;
+import com.aihukuk.repository.UserRepository;
+import com.aihukuk.util.EmailNormalizer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Kullanıcı Principal Cache'i
+ * 
+ * Kimlik doğrulamada kullanılan kullanıcı durumunu (id, uuid, email, status,
+ * emailVerified, yetkiler) bellekte tutar; korumalı her istekte MySQL'e gidilmez.
+ * 
+ * - Boyut sınırlı: user-cache.maximum-size (varsayılan 1M kayıt)
+ *   Kayıt başına yaklaşık 250 byte (principal + email/uuid string'leri + cache node'u),
+ *   1M kullanıcı için heap kullanımı ~250 MB ile sınırlı kalır.
+ * - Süre sınırlı: user-cache.expire-after-write-seconds; diğer node'lardaki
+ *   değişiklikler en geç bu süre sonunda görülür.
+ * - UserService yazma işlemleri (verifyEmail, updatePassword, status değişikliği, silme)
+ *   ilgili kaydı anında geçersiz kılar.
+ * - Hit/miss/eviction sayaçları actuator metrics'te "userPrincipals" cache adıyla yayınlanır.
+ */
+@Component
+public class UserPrincipalCache {
+
+    public static final String CACHE_NAME = "userPrincipals";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${user-cache.maximum-size:1000000}")
+    private long maximumSize;
+
+    @Value("${user-cache.expire-after-write-seconds:60}")
+    private long expireAfterWriteSeconds;
+
+    // Key: küçük harfe çevrilmiş email
+    private Cache<String, UserPrincipal> principalsByEmail;
+
+    @PostConstruct
+    void init() {
+        principalsByEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, principalsByEmail, CACHE_NAME);
+    }
+
+    /**
+     * Email'e göre silinmemiş kullanıcının principal'ını getir
+     * Cache'te yoksa veritabanından yüklenir (JavaScript User.findByEmail karşılığı)
+     * 
+     * @param email Email adresi
+     * @return Principal veya null
+     */
+    public UserPrincipal getByEmail(String email) {
+        if (email == null) {
+            return null;
+        }
+
+        return principalsByEmail.get(cacheKey(email), key ->
+                userRepository.findByEmailNormalizedAndStatusNot(key, User.UserStatus.DELETED)
+                        .map(UserPrincipal::fromUser)
+                        .orElse(null));
+    }
+
+    /**
+     * Kullanıcının cache kaydını geçersiz kıl
+     * 
+     * @param email Email adresi
+     */
+    public void invalidate(String email) {
+        if (email != null) {
+            principalsByEmail.invalidate(cacheKey(email));
+        }
+    }
+
+    /**
+     * Tüm cache'i temizle
+     */
+    public void invalidateAll() {
+        principalsByEmail.invalidateAll();
+    }
+
+    private String cacheKey(String email) {
+        return EmailNormalizer.normalize(email);
+    }
+}
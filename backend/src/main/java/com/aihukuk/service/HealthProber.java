@@ -0,0 +1,310 @@
+// 🩺 Health Prober - Arka planda yenilenen sağlık durumu snapshot'ı
+
+package com.aihukuk.service;
+
+import com.aihukuk.datasource.CircuitBreakerDataSource;
+import com.aihukuk.datasource.DataSourcePool;
+import com.aihukuk.datasource.PoolRoutingDataSource;
+import com.aihukuk.datasource.ReplicaRoutingDataSource;
+import com.aihukuk.datasource.TrackingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Health Prober
+ *
+ * JavaScript health.js'deki testConnection() çağrılarının arka plan karşılığı
+ *
+ * /v1/health endpoint'leri kimlik doğrulamasızdır; her çağrıda havuzdan bağlantı
+ * alınması load balancer ve monitör sorgularını kullanıcı trafiğiyle yarıştırıyordu.
+ *
+ * - Veritabanı erişimi, gecikme, havuz durumu ve bellek probe-interval-ms aralıklarla
+ *   tek bir zamanlanmış görevde ölçülür
+ * - Endpoint'ler sadece son snapshot'ı döndürür; istek sayısı ne olursa olsun
+ *   veritabanına giden probe sayısı sabittir
+ * - Son başarılı probe stale-after-ms'den eskiyse snapshot sağlıksız kabul edilir
+ *   (prober takıldıysa endpoint'ler bunu gizlemez)
+ * - Her havuzun (auth, reporting) durumu HikariPoolMXBean'den, bağlantı alma (acquire) ve kullanım (usage)
+ *   süreleri hikaricp.connections.* timer histogramlarından okunur
+ * - Bağlantı bekleyen thread varsa veya acquire süresi db-diagnostics.acquire-warn-ms'yi
+ *   aşarsa bağlantı tutan kod noktaları (TrackingDataSource) snapshot'a eklenir
+ * - Havuzların devre kesici durumu (CircuitBreakerDataSource) snapshot'a eklenir; devre
+ *   açıkken probe beklemeden başarısız olur, süre dolunca half-open denemesini yapar
+ * - Read replica havuzları (replica-1, ...) gecikmeleri ve okumaya açık olup olmadıklarıyla
+ *   birlikte listelenir
+ */
+@Service
+public class HealthProber {
+
+    private static final Logger logger = LoggerFactory.getLogger(HealthProber.class);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${health.probe-timeout-seconds:2}")
+    private int probeTimeoutSeconds;
+
+    @Value("${health.stale-after-ms:15000}")
+    private long staleAfterMs;
+
+    @Value("${db-diagnostics.acquire-warn-ms:100}")
+    private double acquireWarnMs;
+
+    @Value("${db-diagnostics.top-sites:5}")
+    private int topSites;
+
+    // İlk probe'a kadar veritabanı bağlı sayılmaz
+    private volatile HealthSnapshot snapshot = new HealthSnapshot(false, -1, null, Map.of(), Map.of(), null);
+
+    // Probe edilen havuz adı (auth); havuz yönlendirme yoksa tek havuz "default"
+    private static final String PRIMARY_POOL = DataSourcePool.AUTH.name().toLowerCase(Locale.ROOT);
+
+    /**
+     * Bir probe sonucunun değişmez görüntüsü
+     *
+     * @param dbConnected Veritabanına bağlanılabildi mi
+     * @param dbLatencyMs Bağlantı alma + doğrulama süresi (ms), başarısızsa -1
+     * @param dbError Başarısız probe'un hata mesajı
+     * @param pools Havuz adı -> durum (active, idle, total, max, waiting, acquire/usage süreleri,
+     *              doygunlukta bağlantı tutan kod noktaları, devre kesici durumu)
+     * @param memory Heap durumu (byte)
+     * @param checkedAt Probe zamanı
+     */
+    public record HealthSnapshot(boolean dbConnected, long dbLatencyMs, String dbError,
+                                 Map<String, Map<String, Object>> pools, Map<String, Object> memory,
+                                 LocalDateTime checkedAt) {
+
+        /**
+         * Auth (varsayılan) havuzun durumu
+         */
+        public Map<String, Object> pool() {
+            Map<String, Object> primary = pools.get(PRIMARY_POOL);
+            if (primary == null && pools.size() == 1) {
+                primary = pools.values().iterator().next();
+            }
+            return primary != null ? primary : Map.of();
+        }
+
+        /**
+         * Devre kesicisi kapalı olmayan havuzlar
+         */
+        public List<String> openCircuits() {
+            return pools.entrySet().stream()
+                    .filter(entry -> entry.getValue().get("circuit") instanceof Map<?, ?> circuit &&
+                                     !CircuitBreakerDataSource.State.CLOSED.name().equals(circuit.get("state")))
+                    .map(Map.Entry::getKey)
+                    .toList();
+        }
+    }
+
+    /**
+     * Son snapshot (veritabanına gitmez)
+     */
+    public HealthSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Son snapshot güncel ve veritabanı erişilebilir mi
+     */
+    public boolean isHealthy() {
+        HealthSnapshot current = snapshot;
+        return current.dbConnected() && !isStale(current);
+    }
+
+    /**
+     * Düğüm çalışıyor ama en az bir havuzun devre kesicisi açık
+     */
+    public boolean isDegraded() {
+        return !snapshot.openCircuits().isEmpty();
+    }
+
+    /**
+     * Snapshot stale-after-ms'den eski mi
+     */
+    public boolean isStale(HealthSnapshot current) {
+        return current.checkedAt() == null ||
+               current.checkedAt().isBefore(LocalDateTime.now().minusNanos(staleAfterMs * 1_000_000));
+    }
+
+    /**
+     * Veritabanı, havuz ve belleği ölç; snapshot'ı değiştir
+     */
+    @Scheduled(fixedDelayString = "${health.probe-interval-ms:5000}")
+    public void probe() {
+        boolean connected = false;
+        long latencyMs = -1;
+        String error = null;
+
+        // Havuz durumu probe bağlantısı alınmadan okunur; doygunlukta probe da bekler
+        Map<String, Map<String, Object>> pools = poolStates();
+
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            connected = connection.isValid(probeTimeoutSeconds);
+            if (connected) {
+                latencyMs = (System.nanoTime() - start) / 1_000_000;
+            } else {
+                error = "Connection validation failed";
+            }
+        } catch (Exception e) {
+            error = e.getMessage();
+            logger.warn("Health probe failed: {}", e.getMessage());
+        }
+
+        snapshot = new HealthSnapshot(connected, latencyMs, error, withCircuits(pools), memoryState(), LocalDateTime.now());
+    }
+
+    // Helper Methods
+
+    /**
+     * Havuz adı -> havuz DataSource'u; havuz yönlendirme yoksa tek havuz "default"
+     * Replica havuzları varsa sona eklenir
+     */
+    private Map<String, DataSource> poolDataSources() {
+        Map<String, DataSource> pools = new LinkedHashMap<>();
+        try {
+            if (dataSource.isWrapperFor(PoolRoutingDataSource.class)) {
+                dataSource.unwrap(PoolRoutingDataSource.class).getResolvedDataSources().forEach((key, pool) ->
+                        pools.put(key.toString().toLowerCase(Locale.ROOT), pool));
+            } else {
+                pools.put("default", dataSource);
+            }
+            if (dataSource.isWrapperFor(ReplicaRoutingDataSource.class)) {
+                pools.putAll(dataSource.unwrap(ReplicaRoutingDataSource.class).getReplicas());
+            }
+        } catch (Exception e) {
+            logger.debug("Pool state unavailable: {}", e.getMessage());
+        }
+        return pools;
+    }
+
+    private Map<String, Map<String, Object>> poolStates() {
+        Map<String, Map<String, Object>> states = new LinkedHashMap<>();
+        poolDataSources().forEach((name, pool) -> states.put(name, poolState(pool)));
+        return states;
+    }
+
+    /**
+     * Havuzların devre kesici durumunu (probe denemesinin sonucu dahil) ve replica
+     * gecikmelerini ekle
+     */
+    private Map<String, Map<String, Object>> withCircuits(Map<String, Map<String, Object>> states) {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>(states);
+        try {
+            ReplicaRoutingDataSource replicaRouting = dataSource.isWrapperFor(ReplicaRoutingDataSource.class)
+                    ? dataSource.unwrap(ReplicaRoutingDataSource.class) : null;
+
+            poolDataSources().forEach((name, pool) -> {
+                Map<String, Object> state = new HashMap<>(result.getOrDefault(name, Map.of()));
+                try {
+                    if (pool.isWrapperFor(CircuitBreakerDataSource.class)) {
+                        state.put("circuit", pool.unwrap(CircuitBreakerDataSource.class).describe());
+                    }
+                } catch (Exception e) {
+                    logger.debug("Circuit state unavailable: {}", e.getMessage());
+                }
+                if (replicaRouting != null && replicaRouting.getReplicas().containsKey(name)) {
+                    state.put("replication", replicaRouting.describe(name));
+                }
+                result.put(name, state);
+            });
+        } catch (Exception e) {
+            logger.debug("Routing state unavailable: {}", e.getMessage());
+        }
+        return result;
+    }
+
+    private Map<String, Object> poolState(DataSource poolDataSource) {
+        try {
+            if (!poolDataSource.isWrapperFor(HikariDataSource.class)) {
+                return Map.of();
+            }
+
+            HikariDataSource hikariDataSource = poolDataSource.unwrap(HikariDataSource.class);
+            HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+            if (pool == null) {
+                return Map.of(); // Havuz henüz başlamadı
+            }
+
+            Map<String, Object> state = new HashMap<>();
+            state.put("active", pool.getActiveConnections());
+            state.put("idle", pool.getIdleConnections());
+            state.put("total", pool.getTotalConnections());
+            state.put("max", hikariDataSource.getMaximumPoolSize());
+            state.put("waiting", pool.getThreadsAwaitingConnection());
+
+            String poolName = hikariDataSource.getPoolName();
+            Map<String, Object> acquire = timerState("hikaricp.connections.acquire", poolName);
+            Map<String, Object> usage = timerState("hikaricp.connections.usage", poolName);
+            state.put("acquireMs", acquire);
+            state.put("usageMs", usage);
+
+            // Doygunluk: bağlantı bekleyen var veya bağlantı alma eşikten uzun sürüyor
+            double acquireMaxMs = (double) acquire.getOrDefault("max", 0.0);
+            boolean saturated = pool.getThreadsAwaitingConnection() > 0 || acquireMaxMs > acquireWarnMs;
+            state.put("saturated", saturated);
+
+            if (saturated && poolDataSource.isWrapperFor(TrackingDataSource.class)) {
+                TrackingDataSource tracking = poolDataSource.unwrap(TrackingDataSource.class);
+                state.put("topHoldingSites", tracking.getTopHoldingSites(topSites));
+            }
+            return state;
+        } catch (Exception e) {
+            return Map.of();
+        }
+    }
+
+    /**
+     * Hikari timer'ının son pencere özetleri (ms): p50, p95, p99, max, count
+     */
+    private Map<String, Object> timerState(String name, String poolName) {
+        Timer timer = meterRegistry.find(name).tag("pool", poolName).timer();
+        if (timer == null) {
+            return Map.of();
+        }
+
+        HistogramSnapshot histogram = timer.takeSnapshot();
+        Map<String, Object> state = new HashMap<>();
+        for (ValueAtPercentile percentile : histogram.percentileValues()) {
+            state.put("p" + Math.round(percentile.percentile() * 100), percentile.value(TimeUnit.MILLISECONDS));
+        }
+        state.put("max", histogram.max(TimeUnit.MILLISECONDS));
+        state.put("count", histogram.count());
+        return state;
+    }
+
+    private static Map<String, Object> memoryState() {
+        Runtime runtime = Runtime.getRuntime();
+
+        Map<String, Object> memory = new HashMap<>();
+        memory.put("total", runtime.totalMemory());
+        memory.put("used", runtime.totalMemory() - runtime.freeMemory());
+        memory.put("free", runtime.freeMemory());
+        memory.put("max", runtime.maxMemory());
+        return memory;
+    }
+}
@@ -0,0 +1,161 @@
+// 🕒 Last Login Recorder - Son giriş zamanlarının toplu (write-behind) yazılması
+
+package com.aihukuk.service;
+
+import com.aihukuk.entity.User;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Son Giriş Zamanı Kaydedici
+ *
+ * JavaScript User.updateLastLogin() metodunun toplu yazan karşılığı
+ *
+ * - Başarılı her login'de son giriş zamanı bellekte kullanıcı başına tutulur;
+ *   aynı kullanıcının flush aralığındaki girişleri tek kayda birleşir
+ * - Bekleyen kayıtlar last-login.flush-interval-ms aralıklarla tek bir JDBC batch
+ *   UPDATE ile yazılır; bir girişin veritabanına yansıması en fazla bu süre gecikir
+ * - Bekleyen kayıt sayısı max-pending'i aşarsa kayıtlar istek içinde yazılır
+ * - Kapanışta bekleyen kayıtlar yazılır
+ *
+ * UPDATE sadece last_login_at kolonuna dokunur; updated_at değişmez ve daha yeni
+ * bir değerin üzerine eski zaman yazılmaz. Yazılan kullanıcılar Hibernate
+ * second-level cache'ten çıkarılır.
+ */
+@Service
+public class LastLoginRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(LastLoginRecorder.class);
+
+    private static final String UPDATE_SQL =
+            "UPDATE users SET last_login_at = ? WHERE id = ? AND (last_login_at IS NULL OR last_login_at < ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // JDBC yazmaları Hibernate'in haberi olmadan yapılır; cache'teki User kayıtları elle çıkarılır
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${last-login.batch-size:500}")
+    private int batchSize;
+
+    @Value("${last-login.max-pending:50000}")
+    private int maxPending;
+
+    // Key: kullanıcı ID'si, Value: henüz yazılmamış en son giriş zamanı
+    private final ConcurrentHashMap<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("auth.last_login.pending", pending, Map::size)
+                .description("Veritabanına yazılmayı bekleyen son giriş zamanları")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Son giriş zamanını kaydet (veritabanına sonraki flush'ta yazılır)
+     *
+     * @param userId Kullanıcı ID'si
+     * @param lastLoginAt Giriş zamanı
+     */
+    public void record(Long userId, LocalDateTime lastLoginAt) {
+        pending.merge(userId, lastLoginAt, LastLoginRecorder::latest);
+
+        // Veritabanı geride kalırsa istek içinde yaz (backpressure)
+        if (pending.size() > maxPending) {
+            flush();
+        }
+    }
+
+    /**
+     * Bekleyen son giriş zamanlarını JDBC batch ile veritabanına yaz
+     */
+    @Scheduled(fixedDelayString = "${last-login.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, LocalDateTime>> batch = new ArrayList<>(Math.min(pending.size(), batchSize));
+        for (Long userId : pending.keySet()) {
+            // remove ile alınır; flush sırasında gelen yeni giriş bir sonraki flush'a kalır
+            LocalDateTime lastLoginAt = pending.remove(userId);
+            if (lastLoginAt == null) {
+                continue;
+            }
+            batch.add(Map.entry(userId, lastLoginAt));
+
+            if (batch.size() >= batchSize) {
+                if (!writeBatch(batch)) {
+                    return;
+                }
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+
+        writeBatch(batch);
+    }
+
+    /**
+     * Kapanışta bekleyen kayıtları kaybetme
+     */
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    // Helper Methods
+
+    private boolean writeBatch(List<Map.Entry<Long, LocalDateTime>> batch) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+
+        List<Object[]> args = new ArrayList<>(batch.size());
+        for (Map.Entry<Long, LocalDateTime> entry : batch) {
+            Timestamp lastLoginAt = Timestamp.valueOf(entry.getValue());
+            args.add(new Object[] { lastLoginAt, entry.getKey(), lastLoginAt });
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, args);
+            for (Map.Entry<Long, LocalDateTime> entry : batch) {
+                entityManagerFactory.getCache().evict(User.class, entry.getKey());
+            }
+            return true;
+        } catch (Exception e) {
+            logger.warn("Last login write-behind failed ({} pending): {}", batch.size(), e.getMessage());
+
+            // Yazılamayan kayıtları geri koy; bir sonraki flush'ta tekrar denenir
+            for (Map.Entry<Long, LocalDateTime> entry : batch) {
+                pending.merge(entry.getKey(), entry.getValue(), LastLoginRecorder::latest);
+            }
+            return false;
+        }
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,172 @@
+// 🔑 Password Hashing Service - BCrypt işlemleri için sınırlı thread havuzu
+
+package com.aihukuk.service;
+
+import com.aihukuk.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Şifre Hash Servisi
+ * 
+ * JavaScript bcrypt.hash / bcrypt.compare çağrılarının karşılığı
+ * (Node.js'te bcrypt zaten libuv thread pool'unda çalışır; burada aynı ayrımı Tomcat
+ * request thread'leri ile hash thread'leri arasında yapıyoruz)
+ * 
+ * - BCrypt işlemleri sabit boyutlu bir thread havuzunda çalışır; login yoğunluğu en fazla
+ *   password-hashing.threads çekirdeği meşgul eder, /v1/health ve /profile gibi ucuz
+ *   endpoint'ler için CPU kalır
+ * - Kuyruk sınırlıdır (password-hashing.queue-capacity); dolduğunda istek beklemeden
+ *   ServiceOverloadedException ile reddedilir (503 + Retry-After)
+ * - Metrikler: password.hashing.queue.size, password.hashing.active,
+ *   password.hashing.duration (operation=encode|matches), password.hashing.rejected
+ */
+@Service
+public class PasswordHashingService {
+
+    @Autowired
+    @org.springframework.context.annotation.Lazy
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 0 ise çekirdek sayısının bir eksiği (en az 1)
+    @Value("${password-hashing.threads:0}")
+    private int threads;
+
+    @Value("${password-hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${password-hashing.timeout-ms:10000}")
+    private long timeoutMs;
+
+    @Value("${password-hashing.retry-after-seconds:2}")
+    private long retryAfterSeconds;
+
+    private ThreadPoolExecutor executor;
+
+    private Timer encodeTimer;
+    private Timer matchesTimer;
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    void init() {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        encodeTimer = hashTimer("encode");
+        matchesTimer = hashTimer("matches");
+        rejectedCounter = Counter.builder("password.hashing.rejected")
+                .description("Kuyruk dolu olduğu için reddedilen şifre hash işlemleri")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.queue.size", executor, pool -> pool.getQueue().size())
+                .description("Sırada bekleyen şifre hash işlemleri")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Çalışmakta olan şifre hash işlemleri")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Şifreyi hash'le (JavaScript bcrypt.hash karşılığı)
+     * 
+     * @param rawPassword Şifre (plain text)
+     * @return Hash
+     * @throws ServiceOverloadedException Hash kuyruğu doluysa
+     */
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> encodeTimer.recordCallable(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    /**
+     * Şifreyi hash ile karşılaştır (JavaScript bcrypt.compare karşılığı)
+     * 
+     * @param rawPassword Şifre (plain text)
+     * @param encodedPassword Kayıtlı hash
+     * @return Eşleşiyorsa true
+     * @throws ServiceOverloadedException Hash kuyruğu doluysa
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> matchesTimer.recordCallable(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * Kayıtlı hash güncel ayarlarla (algoritma, cost) yeniden üretilmeli mi
+     * Hash hesaplamadığı için havuz kullanılmaz
+     * 
+     * @param encodedPassword Kayıtlı hash
+     * @return Yenilenmesi gerekiyorsa true
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    // Helper Methods
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceOverloadedException("Sunucu şu an yoğun, lütfen tekrar deneyin", retryAfterSeconds);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new ServiceOverloadedException("Sunucu şu an yoğun, lütfen tekrar deneyin", retryAfterSeconds);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Şifre hash işlemi kesildi", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Şifre hash işlemi başarısız", e.getCause());
+        }
+    }
+
+    private Timer hashTimer(String operation) {
+        return Timer.builder("password.hashing.duration")
+                .description("Şifre hash işlem süresi")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,129 @@
+// 💓 Replica Lag Monitor - Heartbeat ile read replica gecikmesi ölçümü
+
+package com.aihukuk.service;
+
+import com.aihukuk.datasource.DataSourcePool;
+import com.aihukuk.datasource.ReplicaRoutingDataSource;
+import com.aihukuk.datasource.UseDataSourcePool;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replica Gecikme Monitörü
+ *
+ * Ek özellik (JavaScript'te yoktu - read replica yönlendirmesi)
+ *
+ * lag-check-interval-ms aralıklarla:
+ * - Primary'deki heartbeat yeni zamanla güncellenir (REPORTING havuzu)
+ * - Her replica'dan replication_heartbeat satırı okunur; şimdiki zaman ile farkı replica
+ *   gecikmesidir ve ReplicaRoutingDataSource'a bildirilir (okunamazsa -1: replica kullanılmaz)
+ *
+ * Ölçülen gecikme en fazla bir ölçüm aralığı kadar fazladır; max-lag-ms aralıktan büyük
+ * seçilmelidir. Açık devreli bir replica için okuma, devre kesicinin half-open denemesidir.
+ * Gecikmeler "db.replica.lag" gauge'u, okuma dağılımı "db.replica.reads" metriğiyle yayınlanır.
+ */
+@Service
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String READ_SQL = "SELECT beat_at_ms FROM replication_heartbeat WHERE id = 1";
+    private static final String UPDATE_SQL = "UPDATE replication_heartbeat SET beat_at_ms = ? WHERE id = 1";
+    private static final String INSERT_SQL = "INSERT INTO replication_heartbeat (id, beat_at_ms) VALUES (1, ?)";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${datasource-replicas.lag-query-timeout-seconds:2}")
+    private int queryTimeoutSeconds;
+
+    private ReplicaRoutingDataSource replicaRouting;
+
+    // Replica adı -> o replica'ya doğrudan bağlanan JdbcTemplate
+    private final Map<String, JdbcTemplate> replicaTemplates = new ConcurrentHashMap<>();
+
+    // Replica adı -> son ölçülen gecikme (ms), gauge için
+    private final Map<String, Long> lastLags = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() throws Exception {
+        if (!dataSource.isWrapperFor(ReplicaRoutingDataSource.class)) {
+            return; // Replica yapılandırılmamış
+        }
+        replicaRouting = dataSource.unwrap(ReplicaRoutingDataSource.class);
+
+        replicaRouting.getReplicas().forEach((name, replica) -> {
+            JdbcTemplate template = new JdbcTemplate(replica);
+            template.setQueryTimeout(queryTimeoutSeconds);
+            replicaTemplates.put(name, template);
+            lastLags.put(name, -1L);
+
+            Gauge.builder("db.replica.lag", lastLags, lags -> lags.getOrDefault(name, -1L))
+                    .description("Replica gecikmesi (ms), ölçülemediyse -1")
+                    .baseUnit("milliseconds")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        });
+
+        for (String target : new String[] { "replicaReads", "primaryReads", "stickyReads" }) {
+            FunctionCounter.builder("db.replica.reads", replicaRouting,
+                            routing -> ((Number) routing.describeReads().get(target)).doubleValue())
+                    .description("Read-only bağlantıların gittiği yer")
+                    .tag("target", target)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Primary heartbeat'ini güncelle ve replica gecikmelerini ölç
+     */
+    @Scheduled(fixedDelayString = "${datasource-replicas.lag-check-interval-ms:1000}")
+    @UseDataSourcePool(DataSourcePool.REPORTING)
+    public void check() {
+        if (replicaRouting == null) {
+            return;
+        }
+
+        try {
+            if (jdbcTemplate.update(UPDATE_SQL, System.currentTimeMillis()) == 0) {
+                jdbcTemplate.update(INSERT_SQL, System.currentTimeMillis());
+            }
+        } catch (Exception e) {
+            logger.warn("Replication heartbeat write failed: {}", e.getMessage());
+        }
+
+        long now = System.currentTimeMillis();
+        replicaTemplates.forEach((name, template) -> {
+            long lagMs = -1;
+            try {
+                Long beatAtMs = template.queryForObject(READ_SQL, Long.class);
+                if (beatAtMs != null) {
+                    lagMs = Math.max(0, now - beatAtMs);
+                }
+            } catch (Exception e) {
+                logger.debug("Replica {} lag check failed: {}", name, e.getMessage());
+            }
+            replicaRouting.updateLag(name, lagMs);
+            lastLags.put(name, lagMs);
+        });
+    }
+}
@@ -0,0 +1,170 @@
+// 🗄️ User Archival Service - Silinmiş kullanıcıların users_archive tablosuna taşınması
+
+package com.aihukuk.service;
+
+import com.aihukuk.datasource.DataSourcePool;
+import com.aihukuk.datasource.UseDataSourcePool;
+import com.aihukuk.entity.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Kullanıcı Arşivleme Servisi
+ *
+ * Ek özellik (JavaScript'te yoktu - soft delete arşivi)
+ *
+ * Neredeyse tüm kullanıcı sorguları status != DELETED filtresi içerir. Silinmiş kayıtlar
+ * users tablosunda kaldıkça bu sorgular ve index'ler hiç döndürülmeyecek satırları taşır.
+ *
+ * - retention-days'ten uzun süredir DELETED olan kullanıcılar users_archive tablosuna taşınır
+ * - Her batch (batch-size satır) kendi kısa transaction'ında INSERT ... SELECT + DELETE
+ *   ile taşınır; kilitler uzun süre tutulmaz
+ * - Bir çalıştırmada en fazla max-batches-per-run batch işlenir, batch'ler arasında
+ *   pause-ms beklenir
+ * - Taşınan kayıtlar "users.archived" metriğiyle sayılır
+ * - REPORTING havuzunu kullanır; auth havuzundan bağlantı almaz
+ * - Taşınan kullanıcılar Hibernate second-level cache'ten çıkarılır
+ */
+@Service
+public class UserArchivalService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserArchivalService.class);
+
+    private static final String COLUMNS =
+            "id, uuid, full_name, email, email_normalized, password_hash, email_verified, " +
+            "email_verified_at, created_at, updated_at, last_login_at, status";
+
+    private static final String SELECT_BATCH_SQL =
+            "SELECT id FROM users WHERE status = :status AND updated_at < :deletedBefore ORDER BY id LIMIT :limit";
+    private static final String COPY_SQL =
+            "INSERT INTO users_archive (" + COLUMNS + ", archived_at) " +
+            "SELECT " + COLUMNS + ", :archivedAt FROM users WHERE id IN (:ids) AND status = :status";
+    private static final String DELETE_SQL =
+            "DELETE FROM users WHERE id IN (:ids) AND status = :status";
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${user-archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${user-archive.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${user-archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${user-archive.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Value("${user-archive.pause-ms:200}")
+    private long pauseMs;
+
+    private Counter archivedCounter;
+
+    @PostConstruct
+    void init() {
+        archivedCounter = Counter.builder("users.archived")
+                .description("users_archive tablosuna taşınan kullanıcılar")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Saklama süresi dolmuş silinmiş kullanıcıları arşive taşı
+     */
+    @Scheduled(fixedDelayString = "${user-archive.interval-ms:3600000}",
+               initialDelayString = "${user-archive.interval-ms:3600000}")
+    @UseDataSourcePool(DataSourcePool.REPORTING)
+    public void archiveDeletedUsers() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime deletedBefore = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                int moved = archiveBatch(deletedBefore);
+                total += moved;
+
+                if (moved < batchSize) {
+                    break;
+                }
+                Thread.sleep(pauseMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.warn("User archival failed after {} rows: {}", total, e.getMessage());
+        }
+
+        if (total > 0) {
+            logger.info("Archived {} deleted users", total);
+        }
+    }
+
+    // Helper Methods
+
+    /**
+     * Tek batch'i kendi transaction'ında taşı
+     *
+     * @return Taşınan kullanıcı sayısı
+     */
+    private int archiveBatch(LocalDateTime deletedBefore) {
+        String deletedStatus = User.UserStatus.DELETED.name();
+
+        List<Long> ids = new ArrayList<>();
+        Integer moved = transactionTemplate.execute(status -> {
+            ids.addAll(jdbcTemplate.queryForList(SELECT_BATCH_SQL, new MapSqlParameterSource()
+                    .addValue("status", deletedStatus)
+                    .addValue("deletedBefore", Timestamp.valueOf(deletedBefore))
+                    .addValue("limit", batchSize), Long.class));
+
+            if (ids.isEmpty()) {
+                return 0;
+            }
+
+            // Arada tekrar aktif edilen kullanıcı status kontrolü ile atlanır
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("ids", ids)
+                    .addValue("status", deletedStatus)
+                    .addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now()));
+
+            jdbcTemplate.update(COPY_SQL, params);
+            return jdbcTemplate.update(DELETE_SQL, params);
+        });
+
+        // JDBC ile silinen satırlar cache'ten okunmaya devam etmesin
+        ids.forEach(id -> entityManagerFactory.getCache().evict(User.class, id));
+
+        int count = moved != null ? moved : 0;
+        archivedCounter.increment(count);
+        return count;
+    }
+}
@@ -0,0 +1,170 @@
+// 📋 User Listing Service - Admin kullanıcı listesi (keyset sayfalama)
+
+package com.aihukuk.service;
+
+import com.aihukuk.dto.response.UserPageResponse;
+import com.aihukuk.dto.response.UserResponse;
+import com.aihukuk.entity.User;
+import com.aihukuk.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Kullanıcı Listeleme Servisi
+ *
+ * Ek özellik (JavaScript'te yoktu - GET /v1/admin/users)
+ *
+ * Liste OFFSET yerine keyset (cursor) ile sayfalanır: her sayfa bir öncekinin son
+ * satırından, (createdAt, id) veya (lastLoginAt, id) sırasına göre devam eder. Sorgu
+ * index'te cursor'a seek ettiğinden milyonlarca satırlık tabloda derin sayfalar da ilk
+ * sayfa kadar maliyetlidir; sayfalar arasında eklenen/silinen kullanıcılar satır
+ * kaymasına (tekrar/atlama) yol açmaz.
+ *
+ * - Cursor, sıralama anahtarı + son satırın zamanı + id'sidir (base64url, opak);
+ *   başka bir sıralama ile kullanılamaz
+ * - Status filtresi verilmezse silinmemiş (ACTIVE, SUSPENDED) kullanıcılar listelenir
+ * - hasMore için sayfa boyutundan bir fazla satır okunur, COUNT sorgusu çalıştırılmaz
+ */
+@Service
+public class UserListingService {
+
+    private static final Set<User.UserStatus> DEFAULT_STATUSES =
+            EnumSet.of(User.UserStatus.ACTIVE, User.UserStatus.SUSPENDED);
+
+    private static final String CURSOR_SEPARATOR = "|";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${admin.user-list.default-limit:50}")
+    private int defaultLimit;
+
+    @Value("${admin.user-list.max-limit:100}")
+    private int maxLimit;
+
+    /**
+     * Sıralama anahtarı
+     */
+    public enum SortKey {
+        CREATED("created"),
+        LAST_LOGIN("last_login");
+
+        private final String value;
+
+        SortKey(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public static SortKey fromValue(String value) {
+            for (SortKey key : values()) {
+                if (key.value.equalsIgnoreCase(value)) {
+                    return key;
+                }
+            }
+            throw new IllegalArgumentException("Geçersiz sıralama: " + value);
+        }
+    }
+
+    /**
+     * Kullanıcıların bir sayfasını getir
+     *
+     * @param statuses Status filtresi (null veya boş ise silinmemiş kullanıcılar)
+     * @param sort Sıralama anahtarı
+     * @param cursor Önceki sayfanın nextCursor değeri (ilk sayfa için null)
+     * @param limit Sayfa boyutu (null ise varsayılan, en fazla max-limit)
+     * @return Kullanıcılar ve sonraki sayfanın cursor'ı
+     * @throws IllegalArgumentException Geçersiz cursor veya limit
+     */
+    public UserPageResponse listUsers(Set<User.UserStatus> statuses, SortKey sort, String cursor, Integer limit) {
+        int pageSize = limit != null ? limit : defaultLimit;
+        if (pageSize < 1 || pageSize > maxLimit) {
+            throw new IllegalArgumentException("limit 1 ile " + maxLimit + " arasında olmalıdır");
+        }
+
+        Set<User.UserStatus> filter = statuses == null || statuses.isEmpty() ? DEFAULT_STATUSES : statuses;
+        Pageable page = PageRequest.of(0, pageSize + 1);
+        Cursor position = cursor == null || cursor.isBlank() ? null : decodeCursor(cursor, sort);
+
+        List<User> users = switch (sort) {
+            case CREATED -> position == null
+                    ? userRepository.findPageByCreatedAt(filter, page)
+                    : userRepository.findPageByCreatedAtBefore(filter, position.timestamp(), position.id(), page);
+            case LAST_LOGIN -> position == null
+                    ? userRepository.findPageByLastLoginAt(filter, page)
+                    : userRepository.findPageByLastLoginAtBefore(filter, position.timestamp(), position.id(), page);
+        };
+
+        boolean hasMore = users.size() > pageSize;
+        List<User> pageUsers = hasMore ? users.subList(0, pageSize) : users;
+        String nextCursor = hasMore ? encodeCursor(sort, pageUsers.get(pageSize - 1)) : null;
+
+        return new UserPageResponse(pageUsers.stream().map(UserResponse::new).toList(), nextCursor, hasMore);
+    }
+
+    /**
+     * Status parametresini (virgülle ayrılmış: active,suspended,deleted) çözümle
+     *
+     * @param value İstek parametresi (null veya boş ise boş küme)
+     * @return Status kümesi
+     * @throws IllegalArgumentException Bilinmeyen status
+     */
+    public static Set<User.UserStatus> parseStatuses(String value) {
+        Set<User.UserStatus> statuses = EnumSet.noneOf(User.UserStatus.class);
+        if (value == null || value.isBlank()) {
+            return statuses;
+        }
+
+        for (String part : value.split(",")) {
+            String name = part.trim().toLowerCase(Locale.ROOT);
+            if (name.isEmpty()) {
+                continue;
+            }
+            statuses.add(EnumSet.allOf(User.UserStatus.class).stream()
+                    .filter(status -> status.getValue().equals(name))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Geçersiz status: " + part.trim())));
+        }
+        return statuses;
+    }
+
+    // Helper Methods
+
+    private record Cursor(LocalDateTime timestamp, Long id) {
+    }
+
+    private static String encodeCursor(SortKey sort, User last) {
+        LocalDateTime timestamp = sort == SortKey.CREATED ? last.getCreatedAt() : last.getLastLoginAt();
+        String raw = sort.getValue() + CURSOR_SEPARATOR + timestamp + CURSOR_SEPARATOR + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decodeCursor(String cursor, SortKey sort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + CURSOR_SEPARATOR, -1);
+            if (parts.length != 3 || !parts[0].equals(sort.getValue())) {
+                throw new IllegalArgumentException("Geçersiz cursor");
+            }
+            return new Cursor(LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException ve base64 hataları da IllegalArgumentException'dır
+            throw new IllegalArgumentException("Geçersiz cursor", e);
+        }
+    }
+}
@@ -2,13 +2,22 @@
 
 package com.aihukuk.service;
 
+import com.aihukuk.datasource.ReadYourWritesTracker;
 import com.aihukuk.entity.User;
 import com.aihukuk.repository.UserRepository;
+import com.aihukuk.security.SuspendedUserRegistry;
+import com.aihukuk.security.TokenRevocationService;
+import com.aihukuk.security.UserPrincipal;
+import com.aihukuk.security.UserPrincipalCache;
+import com.aihukuk.util.EmailNormalizer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.Map;
@@ -32,9 +41,34 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    // BCrypt işlemleri request thread'lerinde değil, sınırlı hash havuzunda çalışır
     @Autowired
-    @org.springframework.context.annotation.Lazy
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private SuspendedUserRegistry suspendedUserRegistry;
+
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    // last_login_at yazmaları birleştirilip toplu yazılır
+    @Autowired
+    private LastLoginRecorder lastLoginRecorder;
+
+    // İstatistik sayaçları yazma olaylarıyla güncellenir
+    @Autowired
+    private UserStatisticsService userStatisticsService;
+
+    // Kendi verisini yazan kullanıcının okumaları bir süre replica yerine primary'den yapılır
+    @Autowired
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    // Transaction dışındaki metodlarda (hash'leme bittikten sonra) kısa yazma transaction'ları
+    @Autowired
+    private TransactionTemplate transactionTemplate;
 
     @Value("${bcrypt.rounds:12}")
     private int bcryptRounds;
@@ -49,33 +83,42 @@ public class UserService {
      * @return Oluşturulan kullanıcı
      * @throws IllegalArgumentException Email zaten varsa
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // BCrypt sırasında bağlantı tutulmaz
     public User createUser(String fullName, String email, String password) {
         // Email kontrolü (JavaScript'teki existingUser kontrolü)
-        if (userRepository.existsByEmailIgnoreCaseAndStatusNot(email, User.UserStatus.DELETED)) {
+        if (userRepository.existsByEmailNormalizedAndStatusNot(EmailNormalizer.normalize(email), User.UserStatus.DELETED)) {
             throw new IllegalArgumentException("Bu email adresi zaten kullanılıyor");
         }
 
         // Şifreyi hash'le (JavaScript bcrypt.hash karşılığı)
-        String hashedPassword = passwordEncoder.encode(password);
+        String hashedPassword = passwordHashingService.encode(password);
 
         // User oluştur
         User user = new User(fullName, email, hashedPassword);
         
         // Veritabanına kaydet
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        userStatisticsService.onUserCreated(savedUser);
+        readYourWritesTracker.markWritten(savedUser.getId());
+        return savedUser;
     }
 
     /**
      * Kullanıcı kimlik doğrulaması
      * JavaScript User.authenticate() metodunun karşılığı
      * 
+     * Transaction dışında çalışır: kullanıcı kısa bir okuma ile yüklenir ve bağlantı hemen
+     * havuza döner; BCrypt karşılaştırması (~250 ms) sırasında hiçbir bağlantı tutulmaz.
+     * Son giriş zamanı istek içinde yazılmaz, LastLoginRecorder ile toplu yazılır.
+     * 
      * @param email Email adresi
      * @param password Şifre (plain text)
      * @return Doğrulanmış kullanıcı veya null
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User authenticateUser(String email, String password) {
         // Aktif kullanıcıyı bul (JavaScript'teki status = "active" kontrolü)
-        Optional<User> userOpt = userRepository.findByEmailIgnoreCaseAndStatus(email, User.UserStatus.ACTIVE);
+        Optional<User> userOpt = userRepository.findByEmailNormalizedAndStatus(EmailNormalizer.normalize(email), User.UserStatus.ACTIVE);
         
         if (userOpt.isEmpty()) {
             return null;
@@ -84,13 +127,21 @@ public class UserService {
         User user = userOpt.get();
 
         // Şifre kontrolü (JavaScript bcrypt.compare karşılığı)
-        if (!passwordEncoder.matches(password, user.getPasswordHash())) {
+        if (!passwordHashingService.matches(password, user.getPasswordHash())) {
             return null;
         }
 
+        // Hash eski bir algoritma veya düşük cost ile üretildiyse şifre elimizdeyken yenile
+        if (passwordHashingService.upgradeEncoding(user.getPasswordHash())) {
+            String upgradedHash = passwordHashingService.encode(password);
+            storePasswordHash(user.getId(), upgradedHash);
+            user.setPasswordHash(upgradedHash);
+        }
+
         // Son giriş zamanını güncelle (JavaScript User.updateLastLogin karşılığı)
-        updateLastLogin(user.getId());
         user.updateLastLogin(); // Entity'deki helper metod
+        lastLoginRecorder.record(user.getId(), user.getLastLoginAt());
+        readYourWritesTracker.markWritten(user.getId());
 
         return user;
     }
@@ -102,8 +153,25 @@ public class UserService {
      * @param id Kullanıcı ID'si
      * @return Kullanıcı veya null
      */
+    @Transactional(readOnly = true)
     public User findById(Long id) {
-        return userRepository.findByIdAndStatusNot(id, User.UserStatus.DELETED).orElse(null);
+        // findById second-level cache'ten okur; türetilmiş sorgu her seferinde veritabanına giderdi
+        return userRepository.findById(id).filter(User::isNotDeleted).orElse(null);
+    }
+
+    /**
+     * ID'ye göre kullanıcı bul (token yenileme için)
+     * Ek özellik (JavaScript'te yoktu)
+     * 
+     * Read-write transaction'da çalışır: replica'ya gitmez; askıya alınan veya silinen
+     * hesap replica gecikmesi boyunca yeni token alamaz.
+     * 
+     * @param id Kullanıcı ID'si
+     * @return Kullanıcı veya null
+     */
+    @Transactional
+    public User findByIdForAuthentication(Long id) {
+        return userRepository.findById(id).filter(User::isNotDeleted).orElse(null);
     }
 
     /**
@@ -113,8 +181,22 @@ public class UserService {
      * @param email Email adresi
      * @return Kullanıcı veya null
      */
+    @Transactional(readOnly = true)
     public User findByEmail(String email) {
-        return userRepository.findByEmailIgnoreCaseAndStatusNot(email, User.UserStatus.DELETED).orElse(null);
+        return userRepository.findByEmailNormalizedAndStatusNot(EmailNormalizer.normalize(email), User.UserStatus.DELETED).orElse(null);
+    }
+
+    /**
+     * Email'e göre kullanıcının kimlik bilgilerini bul (cache'li)
+     * JWT filter'ı tarafından her korumalı istekte kullanılır; cache hit durumunda
+     * transaction açılmaz ve connection pool'dan bağlantı alınmaz
+     * 
+     * @param email Email adresi
+     * @return Principal veya null
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public UserPrincipal findPrincipalByEmail(String email) {
+        return userPrincipalCache.getByEmail(email);
     }
 
     /**
@@ -124,8 +206,9 @@ public class UserService {
      * @param uuid UUID string
      * @return Kullanıcı veya null
      */
+    @Transactional(readOnly = true)
     public User findByUuid(String uuid) {
-        return userRepository.findByUuidAndStatusNot(uuid, User.UserStatus.DELETED).orElse(null);
+        return userRepository.loadByUuid(uuid).filter(User::isNotDeleted).orElse(null);
     }
 
     /**
@@ -135,12 +218,7 @@ public class UserService {
      * @param userId Kullanıcı ID'si
      */
     public void updateLastLogin(Long userId) {
-        Optional<User> userOpt = userRepository.findById(userId);
-        if (userOpt.isPresent()) {
-            User user = userOpt.get();
-            user.setLastLoginAt(LocalDateTime.now());
-            userRepository.save(user);
-        }
+        lastLoginRecorder.record(userId, LocalDateTime.now());
     }
 
     /**
@@ -150,11 +228,16 @@ public class UserService {
      * @param userId Kullanıcı ID'si
      */
     public void verifyEmail(Long userId) {
-        Optional<User> userOpt = userRepository.findById(userId);
+        // Cache'teki kopya değil güncel kayıt değiştirilir; commit'te sadece email_verified,
+        // email_verified_at ve updated_at yazılır
+        Optional<User> userOpt = userRepository.loadForUpdate(userId);
         if (userOpt.isPresent()) {
             User user = userOpt.get();
+            boolean previousVerified = Boolean.TRUE.equals(user.getEmailVerified());
             user.markEmailAsVerified();
-            userRepository.save(user);
+            invalidatePrincipal(user.getEmail());
+            readYourWritesTracker.markWritten(userId);
+            userStatisticsService.onUserChanged(user.getStatus(), previousVerified, user);
         }
     }
 
@@ -165,40 +248,69 @@ public class UserService {
      * @param userId Kullanıcı ID'si
      * @param newPassword Yeni şifre (plain text)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // BCrypt sırasında bağlantı tutulmaz
     public void updatePassword(Long userId, String newPassword) {
         Optional<User> userOpt = userRepository.findById(userId);
         if (userOpt.isPresent()) {
             User user = userOpt.get();
-            String hashedPassword = passwordEncoder.encode(newPassword);
-            user.setPasswordHash(hashedPassword);
-            userRepository.save(user);
+            String hashedPassword = passwordHashingService.encode(newPassword);
+            storePasswordHash(userId, hashedPassword);
+            invalidatePrincipal(user.getEmail());
+            readYourWritesTracker.markWritten(userId);
+
+            // Eski şifreyle alınmış tüm token'ları iptal et
+            tokenRevocationService.revokeAllForUser(userId);
         }
     }
 
+    /**
+     * Kullanıcı durumunu güncelle (askıya alma, tekrar aktif etme, silme)
+     * JavaScript User.update({ status }) karşılığı
+     * 
+     * @param userId Kullanıcı ID'si
+     * @param status Yeni durum
+     */
+    public void updateStatus(Long userId, User.UserStatus status) {
+        // Commit'te sadece status ve updated_at yazılır (verifyEmail ile aynı)
+        Optional<User> userOpt = userRepository.loadForUpdate(userId);
+        if (userOpt.isPresent()) {
+            User user = userOpt.get();
+            User.UserStatus previousStatus = user.getStatus();
+            user.setStatus(status);
+            invalidatePrincipal(user.getEmail());
+            readYourWritesTracker.markWritten(userId);
+            userStatisticsService.onUserChanged(previousStatus, Boolean.TRUE.equals(user.getEmailVerified()), user);
+
+            // Stateless authentication modunda mevcut token'ları bu node'da anında engelle
+            if (user.isActive()) {
+                suspendedUserRegistry.markActive(userId);
+            } else {
+                suspendedUserRegistry.markSuspended(userId);
+            }
+        }
+    }
+
+    /**
+     * Kullanıcıyı sil (soft delete)
+     * JavaScript User.update({ status: 'deleted' }) karşılığı
+     * 
+     * @param userId Kullanıcı ID'si
+     */
+    public void deleteUser(Long userId) {
+        updateStatus(userId, User.UserStatus.DELETED);
+    }
+
     /**
      * Kullanıcı istatistikleri al
      * JavaScript User.getStats() metodunun karşılığı
      * 
+     * Sayaçlar bellekten okunur (UserStatisticsService); veritabanına gidilmez
+     * 
      * @return Kullanıcı istatistikleri
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Map<String, Object> getUserStats() {
-        LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-        User.UserStatus deletedStatus = User.UserStatus.DELETED;
-
-        long total = userRepository.countByStatusNot(deletedStatus);
-        long active = userRepository.countByStatus(User.UserStatus.ACTIVE);
-        long verified = userRepository.countVerifiedUsers(deletedStatus);
-        long recent = userRepository.countRecentUsers(thirtyDaysAgo, deletedStatus);
-        long pending = userRepository.countPendingVerificationUsers(User.UserStatus.ACTIVE);
-
-        return Map.of(
-            "total", total,
-            "active", active,
-            "verified", verified,
-            "recent", recent,
-            "pendingVerification", pending
-        );
+        return userStatisticsService.getStats();
     }
 
     /**
@@ -208,7 +320,7 @@ public class UserService {
      * @return Email varsa true
      */
     public boolean emailExists(String email) {
-        return userRepository.existsByEmailIgnoreCaseAndStatusNot(email, User.UserStatus.DELETED);
+        return userRepository.existsByEmailNormalizedAndStatusNot(EmailNormalizer.normalize(email), User.UserStatus.DELETED);
     }
 
     /**
@@ -216,8 +328,43 @@ public class UserService {
      * 
      * @return Aktif kullanıcı sayısı
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long countActiveUsers() {
-        return userRepository.countByStatus(User.UserStatus.ACTIVE);
+        return userStatisticsService.getActiveCount();
+    }
+
+    /**
+     * Şifre hash'ini kısa bir transaction'da yaz (hash'leme bu metoddan önce, transaction dışında yapılır)
+     * 
+     * Managed entity üzerinden yazılır: commit'te sadece password_hash ve updated_at güncellenir,
+     * second-level cache'te sadece bu kullanıcının kaydı değişir. JPQL bulk UPDATE ise users,
+     * users-natural-id bölgelerini tamamen boşaltırdı (her login rehash'inde tüm node cache'i).
+     * 
+     * @param userId Kullanıcı ID'si
+     * @param passwordHash Yeni hash
+     */
+    private void storePasswordHash(Long userId, String passwordHash) {
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.loadForUpdate(userId).ifPresent(user -> user.setPasswordHash(passwordHash)));
+    }
+
+    /**
+     * Principal cache kaydını geçersiz kıl
+     * Transaction commit edildikten sonra bir kez daha temizlenir; böylece commit öncesi
+     * eş zamanlı bir okumanın eski durumu cache'e geri yazması engellenir.
+     * 
+     * @param email Kullanıcının email adresi
+     */
+    private void invalidatePrincipal(String email) {
+        userPrincipalCache.invalidate(email);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userPrincipalCache.invalidate(email);
+                }
+            });
+        }
     }
 }
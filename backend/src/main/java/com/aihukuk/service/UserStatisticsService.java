@@ -0,0 +1,201 @@
+// 📊 User Statistics Service - Bellekte tutulan kullanıcı istatistikleri
+
+package com.aihukuk.service;
+
+import com.aihukuk.entity.User;
+import com.aihukuk.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Kullanıcı İstatistikleri Servisi
+ *
+ * JavaScript User.getStats() metodunun bellekte tutulan karşılığı
+ *
+ * /v1/health/status her çağrıda beş ayrı COUNT sorgusu çalıştırıyordu. Sayaçlar artık
+ * bellekte tutulur ve O(1) okunur:
+ * - UserService yazma olayları (kayıt, email doğrulama, durum değişikliği) sayaçları
+ *   transaction commit edildikten sonra günceller
+ * - Sayaçlar reconcile-interval-ms aralıklarla tek aggregate sorgu
+ *   (UserRepository.getUserStatistics) ile veritabanından yeniden hesaplanır; diğer
+ *   node'lardaki yazmalar ve "son 30 gün" penceresinin kayması böyle yansır
+ * - Yanıtta son veritabanı eşitlemesinin zamanı (reconciledAt) döner
+ *
+ * Eşitleme sorgusu sırasında gelen olaylar bir sonraki eşitlemeye kadar çift sayılabilir;
+ * değerler yaklaşık, fark en fazla bir eşitleme aralığı sürer.
+ */
+@Service
+public class UserStatisticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserStatisticsService.class);
+
+    private static final int TOTAL = 0;
+    private static final int ACTIVE = 1;
+    private static final int VERIFIED = 2;
+    private static final int RECENT = 3;
+    private static final int PENDING_VERIFICATION = 4;
+    private static final int COUNTER_COUNT = 5;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${user-stats.recent-days:30}")
+    private int recentDays;
+
+    // Son eşitlemede veritabanından okunan değerler
+    private volatile Snapshot reconciled = new Snapshot(new long[COUNTER_COUNT], null);
+
+    // Son eşitlemeden bu yana bu node'daki yazmaların farkları
+    private final AtomicLongArray deltas = new AtomicLongArray(COUNTER_COUNT);
+
+    private record Snapshot(long[] counters, LocalDateTime reconciledAt) {
+    }
+
+    /**
+     * Kullanıcı istatistikleri (veritabanına gitmez)
+     *
+     * @return total, active, verified, recent, pendingVerification ve reconciledAt
+     */
+    public Map<String, Object> getStats() {
+        Snapshot snapshot = reconciled;
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("total", current(snapshot, TOTAL));
+        stats.put("active", current(snapshot, ACTIVE));
+        stats.put("verified", current(snapshot, VERIFIED));
+        stats.put("recent", current(snapshot, RECENT));
+        stats.put("pendingVerification", current(snapshot, PENDING_VERIFICATION));
+        stats.put("reconciledAt", snapshot.reconciledAt());
+        return stats;
+    }
+
+    /**
+     * Aktif kullanıcı sayısı (veritabanına gitmez)
+     */
+    public long getActiveCount() {
+        return current(reconciled, ACTIVE);
+    }
+
+    /**
+     * Yeni kullanıcı oluşturuldu
+     *
+     * @param user Kaydedilmiş kullanıcı
+     */
+    public void onUserCreated(User user) {
+        afterCommit(() -> apply(user.getStatus(), Boolean.TRUE.equals(user.getEmailVerified()), user.getCreatedAt(), 1));
+    }
+
+    /**
+     * Kullanıcının durumu veya email doğrulaması değişti
+     *
+     * @param previousStatus Önceki durum
+     * @param previousVerified Önceki email doğrulama durumu
+     * @param user Güncellenmiş kullanıcı
+     */
+    public void onUserChanged(User.UserStatus previousStatus, boolean previousVerified, User user) {
+        LocalDateTime createdAt = user.getCreatedAt();
+        User.UserStatus status = user.getStatus();
+        boolean verified = Boolean.TRUE.equals(user.getEmailVerified());
+
+        if (previousStatus == status && previousVerified == verified) {
+            return;
+        }
+
+        afterCommit(() -> {
+            apply(previousStatus, previousVerified, createdAt, -1);
+            apply(status, verified, createdAt, 1);
+        });
+    }
+
+    /**
+     * Sayaçları tek aggregate sorgu ile veritabanından yeniden hesapla
+     */
+    @Scheduled(fixedDelayString = "${user-stats.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        try {
+            long[] pendingDeltas = new long[COUNTER_COUNT];
+            for (int i = 0; i < COUNTER_COUNT; i++) {
+                pendingDeltas[i] = deltas.get(i);
+            }
+
+            Map<String, Object> row = userRepository.getUserStatistics(
+                    LocalDateTime.now().minusDays(recentDays), User.UserStatus.DELETED);
+
+            long[] counters = new long[COUNTER_COUNT];
+            counters[TOTAL] = toLong(row.get("total"));
+            counters[ACTIVE] = toLong(row.get("active"));
+            counters[VERIFIED] = toLong(row.get("verified"));
+            counters[RECENT] = toLong(row.get("recent"));
+            counters[PENDING_VERIFICATION] = toLong(row.get("pendingVerification"));
+
+            // Sorgu öncesindeki farklar artık veritabanı sonucunun içinde
+            for (int i = 0; i < COUNTER_COUNT; i++) {
+                deltas.addAndGet(i, -pendingDeltas[i]);
+            }
+            reconciled = new Snapshot(counters, LocalDateTime.now());
+        } catch (Exception e) {
+            logger.warn("User statistics reconciliation failed: {}", e.getMessage());
+        }
+    }
+
+    // Helper Methods
+
+    private long current(Snapshot snapshot, int counter) {
+        return Math.max(0, snapshot.counters()[counter] + deltas.get(counter));
+    }
+
+    /**
+     * Bir kullanıcının sayaçlara katkısını ekle (sign = 1) veya çıkar (sign = -1)
+     */
+    private void apply(User.UserStatus status, boolean verified, LocalDateTime createdAt, int sign) {
+        if (status == null || status == User.UserStatus.DELETED) {
+            return;
+        }
+
+        deltas.addAndGet(TOTAL, sign);
+        if (status == User.UserStatus.ACTIVE) {
+            deltas.addAndGet(ACTIVE, sign);
+            if (!verified) {
+                deltas.addAndGet(PENDING_VERIFICATION, sign);
+            }
+        }
+        if (verified) {
+            deltas.addAndGet(VERIFIED, sign);
+        }
+        if (createdAt != null && createdAt.isAfter(LocalDateTime.now().minusDays(recentDays))) {
+            deltas.addAndGet(RECENT, sign);
+        }
+    }
+
+    /**
+     * Transaction varsa commit sonrasında, yoksa hemen çalıştır
+     * (rollback edilen yazmalar sayaçlara yansımaz)
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+}
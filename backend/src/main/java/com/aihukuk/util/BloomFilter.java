@@ -0,0 +1,123 @@
+// 🌸 Bloom Filter - Üyelik kontrolü için olasılıksal küme
+
+package com.aihukuk.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom Filter
+ * 
+ * "Kesinlikle yok" veya "muhtemelen var" cevabı veren kompakt küme.
+ * Kayıtların çok küçük bir kısmı kümede olduğunda (ör. iptal edilmiş token'lar),
+ * asıl kontrol tek bir bit dizisi okumasıyla sonuçlanır.
+ * 
+ * - Eleman silinemez; silme gerektiğinde filtre yeniden oluşturulur
+ * - Ekleme kilitsizdir (AtomicLongArray üzerinde CAS)
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions Beklenen eleman sayısı
+     * @param falsePositiveRate Kabul edilen yanlış pozitif oranı (ör. 0.001)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (m + 63) / 64);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    /**
+     * String eleman ekle
+     */
+    public void put(String value) {
+        putHash(hash(value));
+    }
+
+    /**
+     * Long eleman ekle
+     */
+    public void put(long value) {
+        putHash(mix(value));
+    }
+
+    /**
+     * String eleman muhtemelen kümede mi
+     * 
+     * @return false ise eleman kesinlikle kümede değil
+     */
+    public boolean mightContain(String value) {
+        return mightContainHash(hash(value));
+    }
+
+    /**
+     * Long eleman muhtemelen kümede mi
+     * 
+     * @return false ise eleman kesinlikle kümede değil
+     */
+    public boolean mightContain(long value) {
+        return mightContainHash(mix(value));
+    }
+
+    private void putHash(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashCount; i++) {
+            long bitIndex = bitIndex(h1 + i * h2);
+            int word = (int) (bitIndex >>> 6);
+            long mask = 1L << bitIndex;
+
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    private boolean mightContainHash(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashCount; i++) {
+            long bitIndex = bitIndex(h1 + i * h2);
+            if ((bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long bitIndex(int combinedHash) {
+        // Negatif hash'leri pozitife çevir (Kirsch-Mitzenmacher çift hash tekniği)
+        int positive = combinedHash < 0 ? ~combinedHash : combinedHash;
+        return positive % bitCount;
+    }
+
+    private static long hash(String value) {
+        // FNV-1a 64-bit (karakterler üzerinden, ara dizi oluşturmadan), ardından karıştırma
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long z) {
+        // SplitMix64 finalizer
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,47 @@
+// 📧 Email Normalizer - Email adreslerinin karşılaştırma için tek biçime getirilmesi
+
+package com.aihukuk.util;
+
+import java.util.Locale;
+
+/**
+ * Email Normalizer
+ *
+ * JavaScript'teki email.toLowerCase() kullanımının locale'den bağımsız karşılığı
+ *
+ * users.email_normalized kolonu ve tüm email aramaları bu biçimi kullanır; böylece
+ * sorgular upper(email) = upper(?) yerine index'li tam eşleşme ile yapılır.
+ *
+ * - Baştaki/sondaki boşluklar atılır
+ * - Küçük harfe çevirme Locale.ROOT ile yapılır; sunucunun varsayılan locale'i tr_TR
+ *   olsa bile "I" -> "ı" dönüşümü olmaz
+ * - Türkçe noktalı büyük İ (U+0130) ve noktasız küçük ı (U+0131) açıkça "i" yapılır;
+ *   "ALİ@..." ve "alı@..." aynı adres "ali@..." olarak değerlendirilir
+ */
+public final class EmailNormalizer {
+
+    private static final char DOTTED_CAPITAL_I = '\u0130'; // İ
+    private static final char DOTLESS_SMALL_I = '\u0131';  // ı
+
+    private EmailNormalizer() {
+    }
+
+    /**
+     * Email adresini normalize et
+     *
+     * @param email Email adresi
+     * @return Normalize edilmiş email veya null
+     */
+    public static String normalize(String email) {
+        if (email == null) {
+            return null;
+        }
+
+        // Locale.ROOT "İ" harfini "i" + birleşik nokta (U+0307) yapar; önce açıkça dönüştür
+        String trimmed = email.trim()
+                .replace(DOTTED_CAPITAL_I, 'i')
+                .replace(DOTLESS_SMALL_I, 'i');
+
+        return trimmed.toLowerCase(Locale.ROOT);
+    }
+}
@@ -5,6 +5,7 @@ package com.aihukuk.util;
 import com.aihukuk.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
@@ -14,6 +15,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 /**
@@ -25,11 +27,18 @@ import java.util.function.Function;
  * - generateTokens() -> JavaScript generateTokens()
  * - validateToken() -> JavaScript jwt.verify()
  * - extractEmail() -> Token'dan email çıkarma
- * - isTokenExpired() -> Token süre kontrolü
+ * - verifyAccessToken() -> Tek parse ile doğrulanmış token (VerifiedAccessToken)
  */
 @Component
 public class JwtUtil {
 
+    /**
+     * Milisaniye hassasiyetinde üretilme zamanı claim'i
+     * iat saniye hassasiyetindedir; kullanıcı bazlı iptal (TokenRevocationService) iptalden
+     * hemen sonra aynı saniyede üretilen token'ları ayırt edebilmek için bunu kullanır.
+     */
+    public static final String ISSUED_AT_MILLIS_CLAIM = "iatMs";
+
     // JWT Configuration (application.yml'dan gelir)
     @Value("${jwt.secret}")
     private String jwtSecret;
@@ -43,21 +52,71 @@ public class JwtUtil {
     @Value("${jwt.refresh-expires-in:2592000}")
     private Long refreshTokenExpirationTime; // Saniye cinsinden (30 gün)
 
+    // Stateless (claims-only) authentication modunda access token ömrü bu değerle sınırlanır
+    @Value("${jwt.stateless-auth.enabled:false}")
+    private boolean statelessAuthEnabled;
+
+    @Value("${jwt.stateless-auth.max-access-expires-in:900}")
+    private Long statelessMaxAccessTokenExpirationTime; // Saniye cinsinden (15 dakika)
+
     @Value("${jwt.issuer:ai-hukuk-api}")
     private String issuer;
 
     @Value("${jwt.audience:ai-hukuk-frontend}")
     private String audience;
 
-    // Secret Key'leri oluştur
-    private SecretKey getAccessTokenSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    // Önceden oluşturulmuş imzalama anahtarları ve parser'lar
+    // Her doğrulamada key türetmek ve parser kurmak yerine başlangıçta bir kez hazırlanır
+    private volatile SigningMaterial accessTokenMaterial;
+    private volatile SigningMaterial refreshTokenMaterial;
+
+    /**
+     * Anahtarları ve parser'ları uygulama başlangıcında oluştur
+     */
+    @PostConstruct
+    void initSigningMaterial() {
+        reloadSigningKeys(jwtSecret, jwtRefreshSecret);
+    }
+
+    /**
+     * İmzalama anahtarlarını yeniden yükle (secret rotation)
+     * Yeni anahtar ve parser önce tamamen oluşturulur, ardından tek atamayla devreye alınır;
+     * eş zamanlı doğrulamalar her zaman tutarlı bir anahtar/parser çifti görür.
+     * 
+     * @param accessSecret Yeni access token secret'ı
+     * @param refreshSecret Yeni refresh token secret'ı
+     */
+    public synchronized void reloadSigningKeys(String accessSecret, String refreshSecret) {
+        SigningMaterial newAccessMaterial = SigningMaterial.of(accessSecret);
+        SigningMaterial newRefreshMaterial = SigningMaterial.of(refreshSecret);
+
+        this.jwtSecret = accessSecret;
+        this.jwtRefreshSecret = refreshSecret;
+        this.accessTokenMaterial = newAccessMaterial;
+        this.refreshTokenMaterial = newRefreshMaterial;
     }
 
-    private SecretKey getRefreshTokenSigningKey() {
-        byte[] keyBytes = jwtRefreshSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    /**
+     * Değişmez anahtar + parser çifti
+     * JwtParser thread-safe olduğu için tüm istekler aynı instance'ı paylaşır
+     */
+    private static final class SigningMaterial {
+
+        private final SecretKey key;
+        private final JwtParser parser;
+
+        private SigningMaterial(SecretKey key, JwtParser parser) {
+            this.key = key;
+            this.parser = parser;
+        }
+
+        private static SigningMaterial of(String secret) {
+            SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            JwtParser parser = Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .build();
+            return new SigningMaterial(key, parser);
+        }
     }
 
     /**
@@ -75,7 +134,8 @@ public class JwtUtil {
         claims.put("emailVerified", user.getEmailVerified());
         claims.put("fullName", user.getFullName());
 
-        return createToken(claims, user.getEmail(), accessTokenExpirationTime, getAccessTokenSigningKey());
+        return createToken(claims, user.getEmail(), UUID.randomUUID().toString(),
+                getAccessTokenExpiresIn(), accessTokenMaterial.key);
     }
 
     /**
@@ -86,12 +146,48 @@ public class JwtUtil {
      * @return JWT Refresh Token
      */
     public String generateRefreshToken(User user) {
+        return generateRefreshToken(user, UUID.randomUUID().toString(), UUID.randomUUID().toString());
+    }
+
+    /**
+     * Belirli bir token ID ve token ailesiyle Refresh Token üret
+     * Ek özellik (JavaScript'te yoktu - refresh token rotation)
+     * 
+     * @param user Kullanıcı bilgileri
+     * @param tokenId Token ID (jti)
+     * @param familyId Token ailesi (fid claim'i) - aynı login'den türeyen tüm refresh token'lar
+     * @return JWT Refresh Token
+     */
+    public String generateRefreshToken(User user, String tokenId, String familyId) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", user.getId());
         claims.put("uuid", user.getUuid());
         claims.put("email", user.getEmail());
+        claims.put("fid", familyId);
 
-        return createToken(claims, user.getEmail(), refreshTokenExpirationTime, getRefreshTokenSigningKey());
+        return createToken(claims, user.getEmail(), tokenId, refreshTokenExpirationTime, refreshTokenMaterial.key);
+    }
+
+    /**
+     * Access token geçerlilik süresi
+     * Stateless modda askıya alınan hesapların en geç bu süre sonunda düşmesi için kısaltılır
+     * 
+     * @return Geçerlilik süresi (saniye)
+     */
+    public long getAccessTokenExpiresIn() {
+        if (statelessAuthEnabled) {
+            return Math.min(accessTokenExpirationTime, statelessMaxAccessTokenExpirationTime);
+        }
+        return accessTokenExpirationTime;
+    }
+
+    /**
+     * Refresh token geçerlilik süresi
+     * 
+     * @return Geçerlilik süresi (saniye)
+     */
+    public long getRefreshTokenExpiresIn() {
+        return refreshTokenExpirationTime;
     }
 
     /**
@@ -99,17 +195,21 @@ public class JwtUtil {
      * 
      * @param claims Token içeriği
      * @param subject Subject (email)
+     * @param tokenId Token ID (jti)
      * @param expirationTime Geçerlilik süresi (saniye)
      * @param signingKey İmzalama anahtarı
      * @return JWT Token
      */
-    private String createToken(Map<String, Object> claims, String subject, Long expirationTime, SecretKey signingKey) {
+    private String createToken(Map<String, Object> claims, String subject, String tokenId,
+                               Long expirationTime, SecretKey signingKey) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + (expirationTime * 1000));
+        claims.put(ISSUED_AT_MILLIS_CLAIM, now.getTime());
 
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
+                .setId(tokenId) // jti - token iptali için
                 .setIssuer(issuer)
                 .setAudience(audience)
                 .setIssuedAt(now)
@@ -118,6 +218,35 @@ public class JwtUtil {
                 .compact();
     }
 
+    /**
+     * Token'ın milisaniye hassasiyetinde üretilme zamanı
+     * iatMs claim'i olmayan (eski) token'larda saniyeye yuvarlanmış iat döner
+     * 
+     * @param claims Doğrulanmış token claim'leri
+     * @return Üretilme zamanı, yoksa null
+     */
+    static Date issuedAt(Claims claims) {
+        Object issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM);
+        if (issuedAtMillis instanceof Number millis) {
+            return new Date(millis.longValue());
+        }
+        return claims.getIssuedAt();
+    }
+
+    /**
+     * Access token'ı tek seferde parse et ve doğrula
+     * JavaScript jwt.verify() metodunun karşılığı
+     * 
+     * İmza ve süre kontrolü bir kez yapılır; dönen nesne istek boyunca tekrar kullanılır.
+     * 
+     * @param token JWT Token
+     * @return Doğrulanmış token
+     * @throws IllegalArgumentException Token geçersiz veya süresi dolmuşsa
+     */
+    public VerifiedAccessToken verifyAccessToken(String token) {
+        return new VerifiedAccessToken(token, extractAllClaims(token));
+    }
+
     /**
      * Token'dan email çıkar
      * JavaScript jwt.verify() sonrasındaki email çıkarma
@@ -185,9 +314,7 @@ public class JwtUtil {
      */
     private Claims extractAllClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(getAccessTokenSigningKey())
-                    .build()
+            return accessTokenMaterial.parser
                     .parseClaimsJws(token)
                     .getBody();
         } catch (UnsupportedJwtException | MalformedJwtException | IllegalArgumentException e) {
@@ -207,9 +334,7 @@ public class JwtUtil {
      */
     private Claims extractRefreshTokenClaims(String refreshToken) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(getRefreshTokenSigningKey())
-                    .build()
+            return refreshTokenMaterial.parser
                     .parseClaimsJws(refreshToken)
                     .getBody();
         } catch (JwtException e) {
@@ -217,16 +342,6 @@ public class JwtUtil {
         }
     }
 
-    /**
-     * Token süresi dolmuş mu kontrol et
-     * 
-     * @param token JWT Token
-     * @return Süre dolmuşsa true
-     */
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
     /**
      * Access token geçerli mi kontrol et
      * JavaScript jwt.verify() metodunun karşılığı
@@ -237,8 +352,7 @@ public class JwtUtil {
      */
     public Boolean validateAccessToken(String token, UserDetails userDetails) {
         try {
-            final String email = extractEmail(token);
-            return (email.equals(userDetails.getUsername()) && !isTokenExpired(token));
+            return validateAccessToken(verifyAccessToken(token), userDetails);
         } catch (Exception e) {
             return false;
         }
@@ -252,13 +366,25 @@ public class JwtUtil {
      */
     public Boolean validateAccessToken(String token) {
         try {
-            extractAllClaims(token); // Bu, token'ı parse eder ve doğrular
-            return !isTokenExpired(token);
+            return !verifyAccessToken(token).isExpired(); // Tek parse: imza + süre kontrolü
         } catch (Exception e) {
             return false;
         }
     }
 
+    /**
+     * Doğrulanmış access token kullanıcıya ait mi kontrol et
+     * Token zaten parse edildiği için tekrar imza doğrulaması yapılmaz
+     * 
+     * @param verifiedToken Doğrulanmış token
+     * @param userDetails Kullanıcı detayları
+     * @return Token geçerliyse true
+     */
+    public Boolean validateAccessToken(VerifiedAccessToken verifiedToken, UserDetails userDetails) {
+        String email = verifiedToken.getSubject();
+        return email != null && email.equals(userDetails.getUsername()) && !verifiedToken.isExpired();
+    }
+
     /**
      * Refresh token geçerli mi kontrol et
      * JavaScript verifyRefreshToken() metodunun karşılığı
@@ -275,6 +401,18 @@ public class JwtUtil {
         }
     }
 
+    /**
+     * Refresh token'ı tek seferde parse et ve doğrula
+     * JavaScript verifyRefreshToken() metodunun karşılığı
+     * 
+     * @param refreshToken Refresh Token
+     * @return Doğrulanmış refresh token
+     * @throws IllegalArgumentException Token geçersiz veya süresi dolmuşsa
+     */
+    public VerifiedRefreshToken verifyRefreshToken(String refreshToken) {
+        return new VerifiedRefreshToken(refreshToken, extractRefreshTokenClaims(refreshToken));
+    }
+
     /**
      * Refresh token'dan email çıkar
      * 
@@ -0,0 +1,44 @@
+// 🕐 UUIDv7 - Zaman sıralı UUID üretimi
+
+package com.aihukuk.util;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * UUIDv7 üreteci (RFC 9562)
+ *
+ * Ek özellik (JavaScript'te yoktu - UUID.randomUUID() (v4) yerine zaman sıralı UUID)
+ *
+ * İlk 48 bit Unix epoch milisaniyesidir; aynı dönemde üretilen UUID'ler index'te yan
+ * yana düşer. Rastgele UUIDv4 ile her insert B-tree'nin rastgele bir sayfasına yazılır
+ * ve sayfa bölünmelerine yol açar; UUIDv7 ile insert'ler index'in sonuna eklenir.
+ *
+ * Kalan 74 bit SecureRandom ile doldurulur; UUID'ler tahmin edilemez kalır. Aynı
+ * milisaniye içindeki UUID'lerin kendi aralarındaki sırası garanti edilmez.
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private UuidV7() {
+    }
+
+    /**
+     * Yeni UUIDv7 üret
+     *
+     * @return Zaman sıralı UUID
+     */
+    public static UUID generate() {
+        long timestamp = System.currentTimeMillis();
+        long randomA = RANDOM.nextLong();
+        long randomB = RANDOM.nextLong();
+
+        // 48 bit zaman | 4 bit versiyon (7) | 12 bit rastgele
+        long mostSignificantBits = (timestamp << 16) | 0x7000L | (randomA & 0x0FFFL);
+        // 2 bit varyant (10) | 62 bit rastgele
+        long leastSignificantBits = (randomB & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
@@ -0,0 +1,116 @@
+// 🔐 Verified Access Token - Bir kez parse edilip doğrulanmış access token
+
+package com.aihukuk.util;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * Doğrulanmış Access Token
+ *
+ * JavaScript jwt.verify() sonucunda dönen decoded payload'ın karşılığı
+ *
+ * JwtUtil.verifyAccessToken() token'ı tek seferde parse eder ve imzasını doğrular;
+ * filter ve controller'lar istek boyunca bu nesneyi kullanır, token tekrar parse edilmez.
+ */
+public final class VerifiedAccessToken {
+
+    /**
+     * Filter'ın doğrulanmış token'ı request'e eklediği attribute adı
+     */
+    public static final String REQUEST_ATTRIBUTE = "verifiedAccessToken";
+
+    private final String token;
+    private final Claims claims;
+
+    VerifiedAccessToken(String token, Claims claims) {
+        this.token = token;
+        this.claims = claims;
+    }
+
+    /**
+     * Ham JWT token
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Subject (email)
+     */
+    public String getSubject() {
+        return claims.getSubject();
+    }
+
+    /**
+     * Kullanıcı ID'si (userId claim'i)
+     */
+    public Long getUserId() {
+        Object userIdClaim = claims.get("userId");
+
+        if (userIdClaim instanceof Number) {
+            return ((Number) userIdClaim).longValue();
+        }
+        return null;
+    }
+
+    /**
+     * Kullanıcı UUID'si (uuid claim'i)
+     */
+    public String getUuid() {
+        return claims.get("uuid", String.class);
+    }
+
+    /**
+     * Email doğrulanmış mı (emailVerified claim'i)
+     */
+    public Boolean getEmailVerified() {
+        return claims.get("emailVerified", Boolean.class);
+    }
+
+    /**
+     * Token ID (jti claim'i) - token iptali için
+     */
+    public String getTokenId() {
+        return claims.getId();
+    }
+
+    /**
+     * Üretilme zamanı (iatMs claim'i; eski token'larda saniye hassasiyetinde iat)
+     */
+    public Date getIssuedAt() {
+        return JwtUtil.issuedAt(claims);
+    }
+
+    /**
+     * Geçerlilik bitiş zamanı
+     */
+    public Date getExpiration() {
+        return claims.getExpiration();
+    }
+
+    /**
+     * Token süresi dolmuş mu
+     */
+    public boolean isExpired() {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.before(new Date());
+    }
+
+    /**
+     * Tüm claim'ler
+     */
+    public Claims getClaims() {
+        return claims;
+    }
+
+    @Override
+    public String toString() {
+        return "VerifiedAccessToken{" +
+                "subject='" + getSubject() + '\'' +
+                ", userId=" + getUserId() +
+                ", expiration=" + getExpiration() +
+                '}';
+    }
+}
@@ -0,0 +1,104 @@
+// 🔄 Verified Refresh Token - Bir kez parse edilip doğrulanmış refresh token
+
+package com.aihukuk.util;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * Doğrulanmış Refresh Token
+ *
+ * JavaScript verifyRefreshToken() sonucunda dönen decoded payload'ın karşılığı
+ *
+ * JwtUtil.verifyRefreshToken() token'ı tek seferde parse eder ve imzasını doğrular;
+ * refresh akışı bu nesneyi kullanır, token tekrar parse edilmez.
+ */
+public final class VerifiedRefreshToken {
+
+    private final String token;
+    private final Claims claims;
+
+    VerifiedRefreshToken(String token, Claims claims) {
+        this.token = token;
+        this.claims = claims;
+    }
+
+    /**
+     * Ham JWT token
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Subject (email)
+     */
+    public String getSubject() {
+        return claims.getSubject();
+    }
+
+    /**
+     * Kullanıcı ID'si (userId claim'i)
+     */
+    public Long getUserId() {
+        Object userIdClaim = claims.get("userId");
+
+        if (userIdClaim instanceof Number) {
+            return ((Number) userIdClaim).longValue();
+        }
+        return null;
+    }
+
+    /**
+     * Token ID (jti claim'i)
+     */
+    public String getTokenId() {
+        return claims.getId();
+    }
+
+    /**
+     * Token ailesi (fid claim'i) - rotation öncesi üretilmiş token'larda null
+     */
+    public String getFamilyId() {
+        return claims.get("fid", String.class);
+    }
+
+    /**
+     * Üretilme zamanı (iatMs claim'i; eski token'larda saniye hassasiyetinde iat)
+     */
+    public Date getIssuedAt() {
+        return JwtUtil.issuedAt(claims);
+    }
+
+    /**
+     * Geçerlilik bitiş zamanı
+     */
+    public Date getExpiration() {
+        return claims.getExpiration();
+    }
+
+    /**
+     * Token süresi dolmuş mu
+     */
+    public boolean isExpired() {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.before(new Date());
+    }
+
+    /**
+     * Tüm claim'ler
+     */
+    public Claims getClaims() {
+        return claims;
+    }
+
+    @Override
+    public String toString() {
+        return "VerifiedRefreshToken{" +
+                "subject='" + getSubject() + '\'' +
+                ", userId=" + getUserId() +
+                ", expiration=" + getExpiration() +
+                '}';
+    }
+}
@@ -0,0 +1,29 @@
+-- 👤 Users tablosu - User entity'sinin mevcut şeması (başlangıç şeması)
+--
+-- Flyway'den önceki sürümlerde tablo Hibernate (ddl-auto: update) tarafından oluşturuluyordu;
+-- bu script o şemanın birebir aynısıdır. Mevcut veritabanları V1'de baseline edilir
+-- (FLYWAY_BASELINE_VERSION=1) ve V2'den devam eder; bu yüzden kolon tipleri ve index adları
+-- Hibernate'in ürettikleriyle aynı tutulur:
+-- - status: @Enumerated(STRING) -> enum(...)
+-- - @Column(unique = true): Hibernate'in ürettiği UK_<hash> adlı unique key'ler
+--   (V8 uuid kolonunu yeniden oluşturduğunda uk_users_uuid olur)
+
+CREATE TABLE IF NOT EXISTS users (
+    id                BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at        DATETIME(6)  NOT NULL,
+    email             VARCHAR(255) NOT NULL,
+    email_verified    BIT          NOT NULL,
+    email_verified_at DATETIME(6)  NULL,
+    full_name         VARCHAR(100) NOT NULL,
+    last_login_at     DATETIME(6)  NULL,
+    password_hash     VARCHAR(255) NOT NULL,
+    status            ENUM('ACTIVE', 'DELETED', 'SUSPENDED') NOT NULL,
+    updated_at        DATETIME(6)  NOT NULL,
+    uuid              VARCHAR(36)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT UK_6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email),
+    CONSTRAINT UK_6km2m9i3vjuy36rnvkgj1l61s UNIQUE (uuid),
+    INDEX idx_email (email),
+    INDEX idx_uuid (uuid),
+    INDEX idx_status (status)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
@@ -0,0 +1,12 @@
+-- 🚫 Revoked tokens tablosu - Logout / tüm cihazlardan çıkış sonrası iptal edilen token'lar
+
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    id             BIGINT      NOT NULL AUTO_INCREMENT,
+    token_id       VARCHAR(36) NULL,
+    user_id        BIGINT      NULL,
+    revoked_before DATETIME(6) NULL,
+    expires_at     DATETIME(6) NOT NULL,
+    created_at     DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_revoked_tokens_expires_at (expires_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
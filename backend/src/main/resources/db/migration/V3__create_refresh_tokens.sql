@@ -0,0 +1,16 @@
+-- 🔄 Refresh tokens tablosu - Refresh token rotation ve tekrar kullanım tespiti
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    token_id    VARCHAR(36) NOT NULL,
+    family_id   VARCHAR(36) NOT NULL,
+    user_id     BIGINT      NOT NULL,
+    expires_at  DATETIME(6) NOT NULL,
+    used_at     DATETIME(6) NULL,
+    revoked_at  DATETIME(6) NULL,
+    created_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_tokens_token_id UNIQUE (token_id),
+    INDEX idx_refresh_tokens_family_id (family_id),
+    INDEX idx_refresh_tokens_expires_at (expires_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
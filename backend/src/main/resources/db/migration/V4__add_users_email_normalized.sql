@@ -0,0 +1,20 @@
+-- 📧 Users tablosuna normalize edilmiş email kolonu - index'li tam eşleşmeli email aramaları
+--
+-- upper(email) = upper(?) sorguları idx_email'i kullanamaz; aramalar artık
+-- EmailNormalizer ile üretilen email_normalized kolonu üzerinden yapılır.
+-- Bu script uygulama yeni sürümle başlatılmadan önce çalıştırılmalıdır.
+
+ALTER TABLE users
+    ADD COLUMN email_normalized VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NULL AFTER email;
+
+-- Mevcut kayıtları doldur (EmailNormalizer ile aynı kurallar: trim, İ/ı -> i, küçük harf)
+UPDATE users
+SET email_normalized = LOWER(REPLACE(REPLACE(TRIM(email), 'İ', 'i'), 'ı', 'i'))
+WHERE email_normalized IS NULL;
+
+-- Aynı normalize değere düşen kayıt varsa unique index oluşturulamaz; önce kontrol edin:
+-- SELECT email_normalized, COUNT(*) FROM users GROUP BY email_normalized HAVING COUNT(*) > 1;
+
+ALTER TABLE users
+    MODIFY COLUMN email_normalized VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL,
+    ADD CONSTRAINT uk_users_email_normalized UNIQUE (email_normalized);
@@ -0,0 +1,37 @@
+-- 🗂️ Users composite index'leri ve users_archive tablosu
+--
+-- Sorgu şekilleri (UserRepository):
+-- - email_normalized = ? / uuid = ? / id = ?       -> unique index ile tek satır
+-- - COUNT ... status / email_verified / created_at -> idx_users_status_verified_created (covering)
+-- - last_login_at IS NOT NULL ORDER BY last_login_at DESC -> idx_users_last_login_status
+-- - status != ACTIVE AND updated_at > ?            -> idx_users_updated_status
+--
+-- idx_status, idx_users_status_verified_created'in ön ekidir; idx_email ise
+-- email üzerindeki unique key ile aynı kolonu index'ler ve aramalar artık email_normalized üzerindedir.
+
+ALTER TABLE users
+    ADD INDEX idx_users_status_verified_created (status, email_verified, created_at),
+    ADD INDEX idx_users_last_login_status (last_login_at, status),
+    ADD INDEX idx_users_updated_status (updated_at, status),
+    DROP INDEX idx_status,
+    DROP INDEX idx_email;
+
+-- Saklama süresi dolmuş DELETED kullanıcılar (UserArchivalService)
+CREATE TABLE IF NOT EXISTS users_archive (
+    id                BIGINT       NOT NULL,
+    uuid              VARCHAR(36)  NOT NULL,
+    full_name         VARCHAR(100) NOT NULL,
+    email             VARCHAR(255) NOT NULL,
+    email_normalized  VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL,
+    password_hash     VARCHAR(255) NOT NULL,
+    email_verified    BIT          NOT NULL,
+    email_verified_at DATETIME(6)  NULL,
+    created_at        DATETIME(6)  NOT NULL,
+    updated_at        DATETIME(6)  NOT NULL,
+    last_login_at     DATETIME(6)  NULL,
+    status            VARCHAR(20)  NOT NULL,
+    archived_at       DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_users_archive_email_normalized (email_normalized),
+    INDEX idx_users_archive_archived_at (archived_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
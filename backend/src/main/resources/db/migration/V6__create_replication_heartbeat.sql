@@ -0,0 +1,10 @@
+-- 💓 Read replica gecikme ölçümü için heartbeat tablosu
+--
+-- ReplicaLagMonitor primary'deki tek satırı (id = 1) epoch milisaniye ile günceller;
+-- replica'dan okunan değerin şimdiki zamandan farkı replica gecikmesidir.
+
+CREATE TABLE IF NOT EXISTS replication_heartbeat (
+    id          INT    NOT NULL,
+    beat_at_ms  BIGINT NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
@@ -0,0 +1,30 @@
+-- 🔢 users_seq - User id'leri için tablo tabanlı sequence (Hibernate pooled optimizer)
+--
+-- IDENTITY ile her insert'in id'si ancak satır yazıldıktan sonra öğrenilir; Hibernate bu
+-- yüzden insert batching'i kapatır. User.id artık users_seq'ten 50'lik bloklarla alınır
+-- (@SequenceGenerator allocationSize = 50). MySQL'de sequence olmadığından Hibernate
+-- tek satırlı next_val tablosunu kullanır.
+--
+-- Pooled optimizer okuduğu değeri bloğun üst sınırı sayar: next_val = v ise id'ler
+-- (v - 49) .. v aralığından verilir. Başlangıç değeri bu yüzden MAX(id) + 50'dir;
+-- arşive taşınan id'ler (users_archive) de hesaba katılır, yoksa yeniden verilebilirlerdi.
+--
+-- Flyway bu migration'ı uygulama açılırken, Hibernate başlamadan önce çalıştırır.
+-- Hibernate şemayı sadece doğrular (ddl-auto: validate); users_seq'i kendisi oluşturmaz,
+-- tablo yoksa uygulama açılmaz. Flyway kapalıysa (FLYWAY_ENABLED=false) bu dosya yeni
+-- sürümden önce elle uygulanmalıdır. Tabloyu elle next_val = 1 ile oluşturmak mevcut
+-- id'lerle çakışır; başlangıç değeri aşağıdaki INSERT ile verilmelidir.
+-- users.id üzerindeki AUTO_INCREMENT kaldırılmaz; InnoDB sayacı açıkça verilen id'lerin
+-- ilerisine taşıdığından önceki sürüme geri dönülebilir.
+
+CREATE TABLE IF NOT EXISTS users_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO users_seq (next_val)
+SELECT GREATEST(
+           COALESCE((SELECT MAX(id) FROM users), 0),
+           COALESCE((SELECT MAX(id) FROM users_archive), 0)
+       ) + 50
+FROM DUAL
+WHERE NOT EXISTS (SELECT 1 FROM users_seq);
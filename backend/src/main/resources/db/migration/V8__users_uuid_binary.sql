@@ -0,0 +1,114 @@
+-- 🔄 users.uuid ve users_archive.uuid: VARCHAR(36) -> BINARY(16)
+--
+-- Yeni kullanıcıların UUID'leri zaman sıralıdır (UUIDv7); insert'ler uk_users_uuid
+-- index'inin sonuna eklenir. BINARY(16) anahtar başına 36+ byte yerine 16 byte tutar.
+--
+-- Mevcut değerler UUID_TO_BIN(uuid) ile dönüştürülür (swap_flag = 0); byte sırası
+-- UuidBinaryConverter ile aynıdır, API ve JWT'lerdeki string biçim değişmez.
+-- Eski sürüm BINARY kolonu okuyamaz: migration yeni sürümle birlikte uygulanmalıdır.
+--
+-- Eski uuid kolonundaki unique key'in adı veritabanına göre değişir (Hibernate'in ürettiği
+-- UK_<hash>); index'ler adla silinmez, kolon silinince MySQL onları kendisi kaldırır
+-- (unique key ve idx_uuid). Sonra uk_users_uuid yeni kolon üzerinde oluşturulur.
+--
+-- MySQL'de DDL geri alınamaz; adımlar kolonların mevcut durumuna göre çalışır, yarıda
+-- kalan bir çalıştırma (flyway repair sonrası) kaldığı yerden devam eder.
+
+-- users: geçici BINARY kolonu ekle ve doldur (eski uuid kolonu hâlâ VARCHAR iken)
+SET @sql = IF(
+    (SELECT COUNT(*) FROM information_schema.columns
+     WHERE table_schema = DATABASE() AND table_name = 'users' AND column_name = 'uuid_bin') = 0
+    AND (SELECT COUNT(*) FROM information_schema.columns
+         WHERE table_schema = DATABASE() AND table_name = 'users' AND column_name = 'uuid'
+           AND data_type = 'varchar') = 1,
+    'ALTER TABLE users ADD COLUMN uuid_bin BINARY(16) NULL AFTER uuid',
+    'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql = IF(
+    (SELECT COUNT(*) FROM information_schema.columns
+     WHERE table_schema = DATABASE() AND table_name = 'users' AND column_name = 'uuid_bin') = 1
+    AND (SELECT COUNT(*) FROM information_schema.columns
+         WHERE table_schema = DATABASE() AND table_name = 'users' AND column_name = 'uuid') = 1,
+    'UPDATE users SET uuid_bin = UUID_TO_BIN(uuid) WHERE uuid_bin IS NULL',
+    'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- users: eski kolonu (ve üzerindeki tüm index'leri) sil
+SET @sql = IF(
+    (SELECT COUNT(*) FROM information_schema.columns
+     WHERE table_schema = DATABASE() AND table_name = 'users' AND column_name = 'uuid_bin') = 1
+    AND (SELECT COUNT(*) FROM information_schema.columns
+         WHERE table_schema = DATABASE() AND table_name = 'users' AND column_name = 'uuid') = 1,
+    'ALTER TABLE users DROP COLUMN uuid',
+    'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- users: BINARY kolonu uuid olarak yeniden adlandır
+SET @sql = IF(
+    (SELECT COUNT(*) FROM information_schema.columns
+     WHERE table_schema = DATABASE() AND table_name = 'users' AND column_name = 'uuid_bin') = 1,
+    'ALTER TABLE users CHANGE COLUMN uuid_bin uuid BINARY(16) NOT NULL',
+    'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'users' AND index_name = 'uk_users_uuid') = 0,
+    'ALTER TABLE users ADD CONSTRAINT uk_users_uuid UNIQUE (uuid)',
+    'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- users_archive: aynı adımlar (uuid üzerinde index yok)
+SET @sql = IF(
+    (SELECT COUNT(*) FROM information_schema.columns
+     WHERE table_schema = DATABASE() AND table_name = 'users_archive' AND column_name = 'uuid_bin') = 0
+    AND (SELECT COUNT(*) FROM information_schema.columns
+         WHERE table_schema = DATABASE() AND table_name = 'users_archive' AND column_name = 'uuid'
+           AND data_type = 'varchar') = 1,
+    'ALTER TABLE users_archive ADD COLUMN uuid_bin BINARY(16) NULL AFTER uuid',
+    'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql = IF(
+    (SELECT COUNT(*) FROM information_schema.columns
+     WHERE table_schema = DATABASE() AND table_name = 'users_archive' AND column_name = 'uuid_bin') = 1
+    AND (SELECT COUNT(*) FROM information_schema.columns
+         WHERE table_schema = DATABASE() AND table_name = 'users_archive' AND column_name = 'uuid') = 1,
+    'UPDATE users_archive SET uuid_bin = UUID_TO_BIN(uuid) WHERE uuid_bin IS NULL',
+    'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql = IF(
+    (SELECT COUNT(*) FROM information_schema.columns
+     WHERE table_schema = DATABASE() AND table_name = 'users_archive' AND column_name = 'uuid_bin') = 1
+    AND (SELECT COUNT(*) FROM information_schema.columns
+         WHERE table_schema = DATABASE() AND table_name = 'users_archive' AND column_name = 'uuid') = 1,
+    'ALTER TABLE users_archive DROP COLUMN uuid',
+    'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql = IF(
+    (SELECT COUNT(*) FROM information_schema.columns
+     WHERE table_schema = DATABASE() AND table_name = 'users_archive' AND column_name = 'uuid_bin') = 1,
+    'ALTER TABLE users_archive CHANGE COLUMN uuid_bin uuid BINARY(16) NOT NULL',
+    'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
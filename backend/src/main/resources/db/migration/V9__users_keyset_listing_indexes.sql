@@ -0,0 +1,17 @@
+-- 📄 Admin kullanıcı listesi için keyset (cursor) index'leri
+--
+-- GET /v1/admin/users sayfaları (created_at, id) veya (last_login_at, id) sırasıyla,
+-- bir önceki sayfanın son satırından devam ederek okunur:
+--   WHERE status IN (...) AND (created_at < ? OR (created_at = ? AND id < ?))
+--   ORDER BY created_at DESC, id DESC LIMIT n
+-- Index sıralaması ORDER BY ile birebir aynıdır; sorgu cursor'a seek eder ve en fazla
+-- n satır (artı filtreye uymayan index girdileri) okur, filesort ve OFFSET taraması yoktur.
+-- status index içinde filtrelenir; sadece döndürülen satırlar için tabloya gidilir.
+--
+-- idx_users_last_login_status sadece kaldırılan findRecentlyActiveUsers (OFFSET'li)
+-- sorgusu içindi; aynı ön ekle idx_users_last_login_id_status'a dönüşür.
+
+ALTER TABLE users
+    ADD INDEX idx_users_created_id_status (created_at, id, status),
+    ADD INDEX idx_users_last_login_id_status (last_login_at, id, status),
+    DROP INDEX idx_users_last_login_status;
@@ -0,0 +1,214 @@
+// 🔌 Circuit Breaker DataSource Test - Devre geçişleri ve 503 eşlemesi
+
+package com.aihukuk.datasource;
+
+import com.aihukuk.dto.response.ApiResponse;
+import com.aihukuk.exception.DatabaseUnavailableException;
+import com.aihukuk.exception.GlobalExceptionHandler;
+import jakarta.persistence.EntityManagerFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+class CircuitBreakerDataSourceTest {
+
+    private static final int FAILURE_THRESHOLD = 3;
+
+    private final FlakyDataSource pool = new FlakyDataSource();
+    private LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+
+    @AfterEach
+    void tearDown() {
+        if (entityManagerFactoryBean != null) {
+            entityManagerFactoryBean.destroy();
+        }
+    }
+
+    @Test
+    void opensAfterThresholdConsecutiveFailures() throws SQLException {
+        CircuitBreakerDataSource breaker = breaker(60_000);
+        pool.failing = true;
+
+        for (int i = 1; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(breaker::getConnection)
+                    .isInstanceOf(DatabaseUnavailableException.class)
+                    .hasCauseInstanceOf(SQLTransientConnectionException.class);
+            assertThat(breaker.getState()).isEqualTo(CircuitBreakerDataSource.State.CLOSED);
+        }
+
+        // Başarılı alma sayacı sıfırlar; eşik ardışık hatalar içindir
+        pool.failing = false;
+        breaker.getConnection().close();
+        pool.failing = true;
+        for (int i = 1; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(breaker::getConnection).isInstanceOf(DatabaseUnavailableException.class);
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreakerDataSource.State.CLOSED);
+
+        assertThatThrownBy(breaker::getConnection).isInstanceOf(DatabaseUnavailableException.class);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreakerDataSource.State.OPEN);
+    }
+
+    @Test
+    void openCircuitRejectsWithoutTouchingPool() {
+        CircuitBreakerDataSource breaker = breaker(60_000);
+        open(breaker);
+        int attempts = pool.attempts.get();
+        pool.failing = false;
+
+        assertThatThrownBy(breaker::getConnection)
+                .isInstanceOf(DatabaseUnavailableException.class)
+                .satisfies(e -> assertThat(((DatabaseUnavailableException) e).getRetryAfterSeconds())
+                        .isBetween(59L, 60L));
+
+        assertThat(pool.attempts.get()).isEqualTo(attempts);
+        assertThat(breaker.describe()).containsEntry("state", "OPEN").containsEntry("rejected", 1L);
+    }
+
+    @Test
+    void halfOpenAllowsOneTrialAndClosesOnSuccess() throws Exception {
+        CircuitBreakerDataSource breaker = breaker(0);
+        open(breaker);
+        pool.failing = false;
+
+        // Deneme havuzda beklerken gelen istekler havuza gitmeden reddedilir
+        pool.block = new CountDownLatch(1);
+        CompletableFuture<Connection> trial = CompletableFuture.supplyAsync(() -> {
+            try {
+                return breaker.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(pool.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreakerDataSource.State.HALF_OPEN);
+        int attempts = pool.attempts.get();
+
+        assertThatThrownBy(breaker::getConnection).isInstanceOf(DatabaseUnavailableException.class);
+        assertThat(pool.attempts.get()).isEqualTo(attempts);
+
+        pool.block.countDown();
+        trial.get(5, TimeUnit.SECONDS).close();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreakerDataSource.State.CLOSED);
+        assertThat(breaker.describe()).containsEntry("consecutiveFailures", 0);
+        breaker.getConnection().close();
+    }
+
+    @Test
+    void failedTrialReopensCircuit() {
+        CircuitBreakerDataSource breaker = breaker(0);
+        open(breaker);
+
+        // Tek hata yeter; eşik yalnızca CLOSED durumunda sayılır
+        assertThatThrownBy(breaker::getConnection).isInstanceOf(DatabaseUnavailableException.class);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreakerDataSource.State.OPEN);
+        assertThat(pool.attempts.get()).isEqualTo(FAILURE_THRESHOLD + 1);
+    }
+
+    @Test
+    void transactionBeginOnOpenCircuitMapsTo503() {
+        CircuitBreakerDataSource breaker = breaker(30_000);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager(breaker));
+        open(breaker);
+
+        // JpaTransactionManager CannotCreateTransactionException ile sarardı (500)
+        DatabaseUnavailableException unavailable = catchThrowableOfType(
+                () -> transactionTemplate.executeWithoutResult(status -> { }), DatabaseUnavailableException.class);
+        assertThat(unavailable).isNotNull();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+        ResponseEntity<ApiResponse<Void>> response = new GlobalExceptionHandler()
+                .handleDatabaseUnavailable(unavailable, request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(Long.parseLong(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER))).isBetween(29L, 30L);
+        assertThat(response.getBody().getCode()).isEqualTo("DATABASE_UNAVAILABLE");
+    }
+
+    // Helper Methods
+
+    private CircuitBreakerDataSource breaker(long openDurationMs) {
+        return new CircuitBreakerDataSource(pool, "test", FAILURE_THRESHOLD, openDurationMs);
+    }
+
+    private void open(CircuitBreakerDataSource breaker) {
+        pool.failing = true;
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(breaker::getConnection).isInstanceOf(DatabaseUnavailableException.class);
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreakerDataSource.State.OPEN);
+    }
+
+    /**
+     * Devre kesici üzerinden bağlanan, entity'siz Hibernate EntityManagerFactory
+     */
+    private FailFastJpaTransactionManager transactionManager(DataSource dataSource) {
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(dataSource);
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.setPackagesToScan(getClass().getPackageName());
+        entityManagerFactoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = entityManagerFactoryBean.getObject();
+
+        FailFastJpaTransactionManager transactionManager = new FailFastJpaTransactionManager();
+        transactionManager.setEntityManagerFactory(entityManagerFactory);
+        transactionManager.afterPropertiesSet();
+        return transactionManager;
+    }
+
+    /**
+     * İstendiğinde bağlantı vermeyen (Hikari zaman aşımı gibi) veya bekleyen havuz
+     */
+    private static class FlakyDataSource extends DelegatingDataSource {
+
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private volatile boolean failing;
+        private volatile CountDownLatch block;
+
+        FlakyDataSource() {
+            JdbcDataSource h2 = new JdbcDataSource();
+            h2.setURL("jdbc:h2:mem:circuit_breaker;DB_CLOSE_DELAY=-1");
+            setTargetDataSource(h2);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            attempts.incrementAndGet();
+            if (block != null) {
+                entered.countDown();
+                try {
+                    block.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failing) {
+                throw new SQLTransientConnectionException("Connection is not available, request timed out");
+            }
+            return super.getConnection();
+        }
+    }
+}
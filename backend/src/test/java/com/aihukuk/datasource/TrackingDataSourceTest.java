@@ -0,0 +1,63 @@
+// 🔍 Tracking DataSource Test - Bağlantı tutan kod noktaları ve kapatılmayan bağlantılar
+
+package com.aihukuk.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrackingDataSourceTest {
+
+    private final TrackingDataSource dataSource = new TrackingDataSource(h2());
+
+    @Test
+    void reportsHoldingSiteUntilClosed() throws Exception {
+        Connection connection = dataSource.getConnection();
+        assertThat(dataSource.getHeldCount()).isEqualTo(1);
+
+        List<Map<String, Object>> sites = dataSource.getTopHoldingSites(5);
+        assertThat(sites).hasSize(1);
+        assertThat((String) sites.get(0).get("site")).startsWith(getClass().getName() + ".reportsHoldingSiteUntilClosed");
+        assertThat(sites.get(0)).containsEntry("count", 1L);
+
+        connection.close();
+        assertThat(dataSource.getHeldCount()).isZero();
+        assertThat(dataSource.getTopHoldingSites(5)).isEmpty();
+    }
+
+    @Test
+    void unclosedConnectionIsForgottenOnceUnreachable() throws Exception {
+        Connection kept = dataSource.getConnection();
+        leakConnection();
+        assertThat(dataSource.getHeldCount()).isEqualTo(2);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (dataSource.getHeldCount() > 1 && System.nanoTime() < deadline) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        // Hâlâ kullanılan bağlantı takipte kalır
+        assertThat(dataSource.getHeldCount()).isEqualTo(1);
+        kept.close();
+        assertThat(dataSource.getHeldCount()).isZero();
+    }
+
+    // Helper Methods
+
+    private void leakConnection() throws Exception {
+        dataSource.getConnection().createStatement().execute("SELECT 1");
+    }
+
+    private static JdbcDataSource h2() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:tracking;DB_CLOSE_DELAY=-1");
+        return h2;
+    }
+}
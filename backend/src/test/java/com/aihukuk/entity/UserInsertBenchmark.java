@@ -0,0 +1,121 @@
+// ⏱️ User Insert Benchmark - 100k kullanıcı kaydı, JDBC batch'li ve batch'siz
+
+package com.aihukuk.entity;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 100k User insert süresi (1000 kullanıcılık transaction'lar, User entity'sinin gerçek mapping'i)
+ *
+ * - jdbcBatchSize=1: önceki davranışın yazma deseni; IDENTITY id'de Hibernate insert
+ *   batching'i kapatır, her kullanıcı ayrı bir INSERT ile gönderilir (id sequence'ten
+ *   gelir, entity eski mapping'e geri alınmadan karşılaştırılır)
+ * - jdbcBatchSize=50: users_seq (pooled, allocationSize 50) + hibernate.jdbc.batch_size 50;
+ *   MySQL'de rewriteBatchedStatements ile her batch tek çok satırlı INSERT olur
+ *
+ * Her ölçüm boş bir şemada başlar (create-drop). Varsayılan veritabanı H2 (in-memory,
+ * ağ gecikmesi yok); MySQL/MariaDB için boş bir veritabanı verin:
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) com.aihukuk.entity.UserInsertBenchmark
+ * java -Dbench.jdbc.url="jdbc:mysql://localhost:3306/bench_db?rewriteBatchedStatements=true" \
+ *      -Dbench.jdbc.user=root -Dbench.jdbc.password= \
+ *      -cp target/test-classes:target/classes:$(cat target/cp.txt) com.aihukuk.entity.UserInsertBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class UserInsertBenchmark {
+
+    static final String DEFAULT_JDBC_URL = "jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private static final int USERS = 100_000;
+    private static final int USERS_PER_TRANSACTION = 1000;
+    private static final String PASSWORD_HASH = "{bcrypt}$2a$12$R9h/cIPz0gi.URNNX3kh2OPST9/PgBkqquzi.Ss7KIUgO2t0jWMUW";
+
+    @Param({"1", "50"})
+    public int jdbcBatchSize;
+
+    private SessionFactory sessionFactory;
+    private int nextUser;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        sessionFactory = buildSessionFactory(jdbcBatchSize);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        sessionFactory.close(); // Şema silinir
+    }
+
+    @Benchmark
+    public void insertUsers() {
+        for (int inserted = 0; inserted < USERS; inserted += USERS_PER_TRANSACTION) {
+            sessionFactory.inTransaction(session -> {
+                for (int i = 0; i < USERS_PER_TRANSACTION; i++) {
+                    session.persist(newUser(nextUser++));
+                }
+            });
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UserInsertBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    // Helper Methods
+
+    /**
+     * Spring'siz Hibernate; ayarlar application.yml'deki insert ayarlarıyla aynı
+     * (second-level cache kapalı: insert yolu cache'e yazmaz)
+     */
+    private static SessionFactory buildSessionFactory(int jdbcBatchSize) {
+        return new Configuration()
+                .setProperty(AvailableSettings.URL, System.getProperty("bench.jdbc.url", DEFAULT_JDBC_URL))
+                .setProperty(AvailableSettings.USER, System.getProperty("bench.jdbc.user", "sa"))
+                .setProperty(AvailableSettings.PASS, System.getProperty("bench.jdbc.password", ""))
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(jdbcBatchSize))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, "false")
+                .addAnnotatedClass(User.class)
+                .buildSessionFactory();
+    }
+
+    private static User newUser(int n) {
+        User user = new User("Bench User", "bench" + n + "@example.com", PASSWORD_HASH);
+        // AuditingEntityListener Spring dışında bir şey yapmaz
+        LocalDateTime now = LocalDateTime.now();
+        user.setCreatedAt(now);
+        user.setUpdatedAt(now);
+        return user;
+    }
+}
@@ -0,0 +1,53 @@
+// 🔄 UUID Binary Converter Test - BINARY(16) byte sırası ve gidiş-dönüş
+
+package com.aihukuk.entity;
+
+import com.aihukuk.util.UuidV7;
+import org.junit.jupiter.api.Test;
+
+import java.util.HexFormat;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidBinaryConverterTest {
+
+    private final UuidBinaryConverter converter = new UuidBinaryConverter();
+
+    @Test
+    void matchesMySqlUuidToBinWithoutSwap() {
+        // MySQL dokümantasyonu: UUID_TO_BIN('6ccd780c-baba-1026-9564-5b8c656024db') = 0x6CCD780CBABA102695645B8C656024DB
+        String uuid = "6ccd780c-baba-1026-9564-5b8c656024db";
+
+        assertThat(converter.convertToDatabaseColumn(uuid))
+                .isEqualTo(HexFormat.of().parseHex("6ccd780cbaba102695645b8c656024db"));
+    }
+
+    @Test
+    void bytesAreCanonicalHexInOrder() {
+        // UUID_TO_BIN(uuid, 0) = UNHEX(REPLACE(uuid, '-', ''))
+        for (int i = 0; i < 100; i++) {
+            String uuid = (i % 2 == 0 ? UUID.randomUUID() : UuidV7.generate()).toString();
+
+            assertThat(HexFormat.of().formatHex(converter.convertToDatabaseColumn(uuid)))
+                    .isEqualTo(uuid.replace("-", ""));
+        }
+    }
+
+    @Test
+    void roundTripsCanonicalString() {
+        String uuid = UuidV7.generate().toString();
+        String upperCase = "6CCD780C-BABA-1026-9564-5B8C656024DB";
+
+        assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(uuid))).isEqualTo(uuid);
+        // Okunan değer her zaman küçük harfli kanonik biçimdedir
+        assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(upperCase)))
+                .isEqualTo(upperCase.toLowerCase());
+    }
+
+    @Test
+    void passesNullThrough() {
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+}
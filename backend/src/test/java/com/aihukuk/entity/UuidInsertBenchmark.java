@@ -0,0 +1,149 @@
+// ⏱️ UUID Insert Benchmark - VARCHAR(36) UUIDv4 ile BINARY(16) UUIDv7 insert hızı
+
+package com.aihukuk.entity;
+
+import com.aihukuk.util.UuidV7;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * users tablosu biçiminde bir tabloya 100k kayıt insert süresi, uuid kolonuna göre
+ *
+ * - varchar-v4: önceki şema; uuid VARCHAR(36), UUID.randomUUID() (her insert unique
+ *   index'in rastgele bir sayfasına)
+ * - binary-v7: uuid BINARY(16), UuidV7 + UuidBinaryConverter (insert'ler index'in sonuna)
+ *
+ * Hibernate'in ürettiği yazma ile aynı biçimde JDBC ile yazılır: 50 satırlık batch'ler,
+ * 1000 satırlık transaction'lar. Fark index boyutu buffer pool'u aştıkça büyür; daha
+ * büyük tablolar için -p users=1000000 verin. Varsayılan veritabanı H2 (InnoDB sayfa
+ * bölünmelerini modellemez); MySQL/MariaDB için boş bir veritabanı verin:
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -Dbench.jdbc.url="jdbc:mysql://localhost:3306/bench_db?rewriteBatchedStatements=true" \
+ *      -Dbench.jdbc.user=root -Dbench.jdbc.password= \
+ *      -cp target/test-classes:target/classes:$(cat target/cp.txt) com.aihukuk.entity.UuidInsertBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class UuidInsertBenchmark {
+
+    private static final int BATCH_SIZE = 50;
+    private static final int ROWS_PER_TRANSACTION = 1000;
+    private static final String PASSWORD_HASH = "{bcrypt}$2a$12$R9h/cIPz0gi.URNNX3kh2OPST9/PgBkqquzi.Ss7KIUgO2t0jWMUW";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO bench_users (id, uuid, full_name, email, password_hash, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    @Param({"varchar-v4", "binary-v7"})
+    public String layout;
+
+    @Param({"100000"})
+    public int users;
+
+    private final UuidBinaryConverter converter = new UuidBinaryConverter();
+    private Connection connection;
+    private long nextId;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("bench.jdbc.url", UserInsertBenchmark.DEFAULT_JDBC_URL),
+                System.getProperty("bench.jdbc.user", "sa"),
+                System.getProperty("bench.jdbc.password", ""));
+
+        String uuidColumn = isBinary() ? "BINARY(16)" : "VARCHAR(36)";
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_users");
+            statement.execute("CREATE TABLE bench_users (" +
+                    "id BIGINT NOT NULL PRIMARY KEY, " +
+                    "uuid " + uuidColumn + " NOT NULL, " +
+                    "full_name VARCHAR(100) NOT NULL, " +
+                    "email VARCHAR(255) NOT NULL, " +
+                    "password_hash VARCHAR(255) NOT NULL, " +
+                    "created_at DATETIME(6) NOT NULL, " +
+                    "CONSTRAINT uk_bench_users_uuid UNIQUE (uuid))");
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_users");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void insertUsers() throws SQLException {
+        boolean binary = isBinary();
+
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+            for (int row = 1; row <= users; row++) {
+                long id = ++nextId;
+                if (binary) {
+                    insert.setBytes(2, converter.convertToDatabaseColumn(UuidV7.generate().toString()));
+                } else {
+                    insert.setString(2, UUID.randomUUID().toString());
+                }
+                insert.setLong(1, id);
+                insert.setString(3, "Bench User");
+                insert.setString(4, "bench" + id + "@example.com");
+                insert.setString(5, PASSWORD_HASH);
+                insert.setTimestamp(6, new Timestamp(System.currentTimeMillis()));
+                insert.addBatch();
+
+                if (row % BATCH_SIZE == 0 || row == users) {
+                    insert.executeBatch();
+                }
+                if (row % ROWS_PER_TRANSACTION == 0 || row == users) {
+                    connection.commit();
+                }
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args)) // ör. -p users=1000000
+                .include(UuidInsertBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    // Helper Methods
+
+    private boolean isBinary() {
+        return "binary-v7".equals(layout);
+    }
+}
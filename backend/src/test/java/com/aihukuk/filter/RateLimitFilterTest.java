@@ -0,0 +1,143 @@
+// 🚦 Rate Limit Filter Test - Bucket limiti, Retry-After ve muaf path'lar
+
+package com.aihukuk.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private static final long WINDOW_MS = 1000;
+    private static final long MAX_REQUESTS = 5;
+    private static final long INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(WINDOW_MS) / MAX_REQUESTS;
+
+    // nanoTime negatif de olabilir; hesap farklara dayanmalı
+    private static final long NOW = -42_000_000_000L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimitFilter filter = new RateLimitFilter();
+    private RateLimitFilter.Bucket bucket;
+
+    @BeforeEach
+    void setUp() {
+        bucket = new RateLimitFilter.Bucket(WINDOW_MS, MAX_REQUESTS, new byte[0],
+                Counter.builder("test").register(meterRegistry));
+
+        ReflectionTestUtils.setField(filter, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        ReflectionTestUtils.setField(filter, "windowMs", 900_000L);
+        ReflectionTestUtils.setField(filter, "maxRequests", 100L);
+        ReflectionTestUtils.setField(filter, "authWindowMs", 900_000L);
+        ReflectionTestUtils.setField(filter, "authMaxRequests", 5L);
+        filter.init();
+    }
+
+    @Test
+    void burstEqualsMaxRequestsPerWindow() {
+        for (int i = 0; i < MAX_REQUESTS; i++) {
+            assertThat(bucket.tryAcquire("10.0.0.1", NOW)).isZero();
+        }
+
+        // Bir sonraki token bir aralık sonra gelir
+        assertThat(bucket.tryAcquire("10.0.0.1", NOW)).isEqualTo(INTERVAL_NANOS);
+        assertThat(bucket.tryAcquire("10.0.0.1", NOW + INTERVAL_NANOS - 1)).isEqualTo(1);
+        assertThat(bucket.tryAcquire("10.0.0.1", NOW + INTERVAL_NANOS)).isZero();
+        assertThat(bucket.tryAcquire("10.0.0.1", NOW + INTERVAL_NANOS)).isPositive();
+
+        // Başka IP'nin bucket'ı ayrıdır
+        assertThat(bucket.tryAcquire("10.0.0.2", NOW)).isZero();
+    }
+
+    @Test
+    void bucketRefillsToMaxAfterWindow() {
+        for (int i = 0; i < MAX_REQUESTS; i++) {
+            bucket.tryAcquire("10.0.0.1", NOW);
+        }
+
+        long later = NOW + TimeUnit.HOURS.toNanos(1);
+        for (int i = 0; i < MAX_REQUESTS; i++) {
+            assertThat(bucket.tryAcquire("10.0.0.1", later)).isZero();
+        }
+        assertThat(bucket.tryAcquire("10.0.0.1", later)).isPositive();
+    }
+
+    @Test
+    void retryAfterRoundsUp() {
+        assertThat(RateLimitFilter.retryAfterSeconds(1)).isEqualTo(1);
+        assertThat(RateLimitFilter.retryAfterSeconds(INTERVAL_NANOS)).isEqualTo(1);
+        assertThat(RateLimitFilter.retryAfterSeconds(TimeUnit.SECONDS.toNanos(1))).isEqualTo(1);
+        assertThat(RateLimitFilter.retryAfterSeconds(TimeUnit.SECONDS.toNanos(1) + 1)).isEqualTo(2);
+        assertThat(RateLimitFilter.retryAfterSeconds(TimeUnit.MILLISECONDS.toNanos(899_999_001))).isEqualTo(900_000);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void evictionKeepsActiveBuckets() {
+        for (int i = 0; i < MAX_REQUESTS; i++) {
+            bucket.tryAcquire("busy", NOW);
+        }
+        bucket.tryAcquire("idle", NOW);
+
+        long now = NOW + INTERVAL_NANOS + INTERVAL_NANOS / 2;
+        bucket.evictIdle(now);
+
+        Map<String, ?> buckets = (Map<String, ?>) ReflectionTestUtils.getField(bucket, "fullAt");
+        assertThat(buckets.keySet()).containsExactly("busy");
+
+        // Silinmiş olsaydı 5 token daha alırdı; sadece geçen sürede dolan token var
+        assertThat(bucket.tryAcquire("busy", now)).isZero();
+        assertThat(bucket.tryAcquire("busy", now)).isPositive();
+    }
+
+    @Test
+    void authEndpointsHaveTheirOwnLimit() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertThat(send("POST", "/v1/auth/login").getStatus()).isEqualTo(200);
+        }
+
+        MockHttpServletResponse rejected = send("POST", "/v1/auth/login");
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(Long.parseLong(rejected.getHeader(HttpHeaders.RETRY_AFTER))).isBetween(179L, 180L);
+        assertThat(rejected.getContentAsString()).contains("AUTH_RATE_LIMIT_EXCEEDED");
+        assertThat(meterRegistry.get("rate_limit.rejected").tag("group", "auth").counter().count()).isEqualTo(1);
+
+        // Genel limit auth denemelerinden etkilenmez
+        assertThat(send("GET", "/v1/users/me").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void exemptPathsAreNotLimited() throws Exception {
+        for (String path : new String[] {"/v1/health", "/v1/health/ready", "/actuator/prometheus",
+                "/swagger-ui/index.html", "/v1/api-docs"}) {
+            assertThat(filter.shouldNotFilter(new MockHttpServletRequest("GET", path))).as(path).isTrue();
+        }
+        assertThat(filter.shouldNotFilter(new MockHttpServletRequest("OPTIONS", "/v1/auth/login"))).isTrue();
+        assertThat(filter.shouldNotFilter(new MockHttpServletRequest("GET", "/v1/users/me"))).isFalse();
+        assertThat(filter.shouldNotFilter(new MockHttpServletRequest("POST", "/v1/auth/login"))).isFalse();
+
+        ReflectionTestUtils.setField(filter, "enabled", false);
+        assertThat(filter.shouldNotFilter(new MockHttpServletRequest("POST", "/v1/auth/login"))).isTrue();
+    }
+
+    // Helper Methods
+
+    private MockHttpServletResponse send(String method, String path) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr("192.0.2.10");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,113 @@
+// 📋 User Repository Paging Test - Aynı zamana sahip satırlarda keyset sayfalama
+
+package com.aihukuk.repository;
+
+import com.aihukuk.dto.response.UserPageResponse;
+import com.aihukuk.dto.response.UserResponse;
+import com.aihukuk.entity.User;
+import com.aihukuk.service.UserListingService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Keyset sayfalamanın (ts, id) eşitlik bozması
+ *
+ * Kullanıcıların çoğu aynı created_at / last_login_at değerine sahiptir (toplu import,
+ * aynı anda birleştirilen girişler); sayfa sınırları bu grupların içine düşer. Sayfalar
+ * uç uca eklendiğinde her kullanıcı tam bir kez ve (ts DESC, id DESC) sırasıyla gelmelidir.
+ * Test kullanıcılarının zamanları gelecektedir; aynı veritabanını kullanan diğer testlerin
+ * kullanıcılarından önce listelenirler.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserRepositoryPagingTest {
+
+    private static final LocalDateTime TIED = LocalDateTime.of(2100, 1, 1, 0, 0);
+    private static final LocalDateTime NEWER = TIED.plusSeconds(1);
+    private static final int PAGE_SIZE = 4;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserListingService userListingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private List<User> expected;
+
+    @BeforeEach
+    void setUp() {
+        // Önceki testin gelecekteki kullanıcılarını temizle (context ve veritabanı paylaşılır)
+        jdbcTemplate.update("DELETE FROM users WHERE created_at >= ?", Timestamp.valueOf(TIED));
+
+        String prefix = "paging" + System.nanoTime();
+        List<User> users = userRepository.saveAll(IntStream.range(0, 23)
+                .mapToObj(i -> new User("Paging User", prefix + "-" + i + "@example.com", "hash"))
+                .toList());
+
+        // 3 kullanıcı daha yeni, biri silinmiş (listede görünmez), kalanlar aynı zamanda
+        users.get(0).setStatus(User.UserStatus.DELETED);
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            LocalDateTime timestamp = i % 8 == 5 ? NEWER : TIED;
+            jdbcTemplate.update("UPDATE users SET created_at = ?, last_login_at = ?, status = ? WHERE id = ?",
+                    Timestamp.valueOf(timestamp), Timestamp.valueOf(timestamp), user.getStatus().name(), user.getId());
+            user.setCreatedAt(timestamp);
+        }
+        entityManagerFactory.getCache().evict(User.class);
+
+        expected = users.stream()
+                .filter(User::isNotDeleted)
+                .sorted(Comparator.comparing(User::getCreatedAt).thenComparing(User::getId).reversed())
+                .toList();
+    }
+
+    @Test
+    void createdAtPagesHaveNoDuplicatesOrGaps() {
+        assertThat(collectIds(UserListingService.SortKey.CREATED)).isEqualTo(expectedIds());
+    }
+
+    @Test
+    void lastLoginPagesHaveNoDuplicatesOrGaps() {
+        assertThat(collectIds(UserListingService.SortKey.LAST_LOGIN)).isEqualTo(expectedIds());
+    }
+
+    // Helper Methods
+
+    /**
+     * Test kullanıcıları bitene kadar sayfa sayfa ilerle
+     */
+    private List<Long> collectIds(UserListingService.SortKey sort) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            UserPageResponse page = userListingService.listUsers(null, sort, cursor, PAGE_SIZE);
+            page.getUsers().stream().map(UserResponse::getId).forEach(ids::add);
+            cursor = page.getNextCursor();
+        } while (cursor != null && ids.size() < expected.size());
+        return ids.subList(0, Math.min(ids.size(), expected.size()));
+    }
+
+    private List<Long> expectedIds() {
+        return expected.stream().map(User::getId).toList();
+    }
+}
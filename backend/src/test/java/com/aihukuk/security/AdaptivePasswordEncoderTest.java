@@ -0,0 +1,96 @@
+// 🔑 Adaptive Password Encoder Test - Hash yenileme kararı ve kalibrasyon alt sınırı
+
+package com.aihukuk.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptivePasswordEncoderTest {
+
+    private static final String PASSWORD = "Passw0rd!";
+
+    // Testlerde hızlı olsun diye düşük cost'lar (BCrypt en az 4)
+    private static final int ROUNDS = 6;
+
+    @Test
+    void unprefixedLegacyHashIsUpgradedOnlyWhenCostIsLower() {
+        AdaptivePasswordEncoder encoder = AdaptivePasswordEncoder.create(AdaptivePasswordEncoder.BCRYPT, ROUNDS);
+
+        String lower = legacyHash(ROUNDS - 1);
+        String same = legacyHash(ROUNDS);
+        String higher = legacyHash(ROUNDS + 1);
+
+        assertThat(encoder.matches(PASSWORD, same)).isTrue();
+        assertThat(encoder.upgradeEncoding(lower)).isTrue();
+        // Sırf "{bcrypt}" prefix'i eklemek için yenilenmez, daha düşük cost'a inilmez
+        assertThat(encoder.upgradeEncoding(same)).isFalse();
+        assertThat(encoder.upgradeEncoding(higher)).isFalse();
+    }
+
+    @Test
+    void prefixedHashIsUpgradedWhenCostIncreases() {
+        String stored = AdaptivePasswordEncoder.create(AdaptivePasswordEncoder.BCRYPT, ROUNDS).encode(PASSWORD);
+        assertThat(stored).startsWith("{bcrypt}$2a$0" + ROUNDS + "$");
+
+        AdaptivePasswordEncoder sameCost = AdaptivePasswordEncoder.create(AdaptivePasswordEncoder.BCRYPT, ROUNDS);
+        AdaptivePasswordEncoder higherCost = AdaptivePasswordEncoder.create(AdaptivePasswordEncoder.BCRYPT, ROUNDS + 1);
+        AdaptivePasswordEncoder lowerCost = AdaptivePasswordEncoder.create(AdaptivePasswordEncoder.BCRYPT, ROUNDS - 1);
+
+        assertThat(sameCost.upgradeEncoding(stored)).isFalse();
+        assertThat(higherCost.upgradeEncoding(stored)).isTrue();
+        assertThat(lowerCost.upgradeEncoding(stored)).isFalse();
+        assertThat(higherCost.matches(PASSWORD, stored)).isTrue();
+    }
+
+    @Test
+    void switchingToArgon2UpgradesEveryBCryptHash() {
+        AdaptivePasswordEncoder encoder = AdaptivePasswordEncoder.create(AdaptivePasswordEncoder.ARGON2, ROUNDS);
+
+        String legacy = legacyHash(ROUNDS);
+        String prefixedBCrypt = AdaptivePasswordEncoder.create(AdaptivePasswordEncoder.BCRYPT, ROUNDS).encode(PASSWORD);
+        String argon2 = encoder.encode(PASSWORD);
+
+        assertThat(argon2).startsWith("{argon2}");
+        assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+        assertThat(encoder.upgradeEncoding(prefixedBCrypt)).isTrue();
+        assertThat(encoder.upgradeEncoding(argon2)).isFalse();
+
+        // Eski hash'ler yenilenene kadar doğrulanmaya devam eder
+        assertThat(encoder.matches(PASSWORD, legacy)).isTrue();
+        assertThat(encoder.matches(PASSWORD, prefixedBCrypt)).isTrue();
+        assertThat(encoder.matches(PASSWORD, argon2)).isTrue();
+        assertThat(Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8()
+                .matches(PASSWORD, argon2.substring("{argon2}".length()))).isTrue();
+    }
+
+    @Test
+    void calibrationNeverGoesBelowMinRounds() {
+        // Bütçe her cost için aşılır; sonuç alt sınırdır
+        assertThat(AdaptivePasswordEncoder.calibrateBCryptRounds(ROUNDS, ROUNDS + 2, 0, 60_000)).isEqualTo(ROUNDS);
+        // Bütçe geniş; en yüksek cost seçilir
+        assertThat(AdaptivePasswordEncoder.calibrateBCryptRounds(4, 5, 60_000, 60_000)).isEqualTo(5);
+    }
+
+    @Test
+    void calibrationStopsAtTimeLimit() {
+        // Süre sınırı yoksa yalnızca alt sınır ölçülür
+        assertThat(AdaptivePasswordEncoder.calibrateBCryptRounds(ROUNDS, 31, 60_000, 0)).isEqualTo(ROUNDS);
+
+        // Gecikme bütçesi cost 31'e (saatler) izin verir; süre sınırı daha önce durdurur
+        long start = System.nanoTime();
+        int rounds = AdaptivePasswordEncoder.calibrateBCryptRounds(4, 31, 3_600_000, 300);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(rounds).isBetween(4, 16);
+        assertThat(elapsedMs).isLessThan(5_000);
+    }
+
+    // Helper Methods
+
+    private static String legacyHash(int rounds) {
+        return new BCryptPasswordEncoder(rounds).encode(PASSWORD);
+    }
+}
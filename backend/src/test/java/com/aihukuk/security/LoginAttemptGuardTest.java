@@ -0,0 +1,132 @@
+// 🛡️ Login Attempt Guard Test - Serbest denemeler, üstel bekleme ve IP engeli
+
+package com.aihukuk.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginAttemptGuardTest {
+
+    private static final int FREE_ATTEMPTS = 3;
+    private static final int IP_FREE_ATTEMPTS = 10;
+    private static final long BASE_LOCKOUT_MS = 1000;
+    private static final long MAX_LOCKOUT_MS = 10_000;
+
+    private static final String EMAIL = "victim@example.com";
+    private static final String IP = "198.51.100.7";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LoginAttemptGuard guard = new LoginAttemptGuard();
+
+    private long now = 1_700_000_000_000L;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(guard, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(guard, "enabled", true);
+        ReflectionTestUtils.setField(guard, "freeAttempts", FREE_ATTEMPTS);
+        ReflectionTestUtils.setField(guard, "ipFreeAttempts", IP_FREE_ATTEMPTS);
+        ReflectionTestUtils.setField(guard, "baseLockoutMs", BASE_LOCKOUT_MS);
+        ReflectionTestUtils.setField(guard, "maxLockoutMs", MAX_LOCKOUT_MS);
+        ReflectionTestUtils.setField(guard, "resetAfterSeconds", 900L);
+        ReflectionTestUtils.setField(guard, "maximumSize", 1000L);
+        guard.init();
+    }
+
+    @Test
+    void freeAttemptsAreNotBlocked() {
+        for (int i = 0; i < FREE_ATTEMPTS; i++) {
+            assertThat(guard.getRemainingBlockMs(EMAIL, IP, now)).isZero();
+            guard.recordFailure(EMAIL, IP, now);
+        }
+        assertThat(guard.getRemainingBlockMs(EMAIL, IP, now)).isZero();
+
+        guard.recordFailure(EMAIL, IP, now);
+        assertThat(guard.getRemainingBlockMs(EMAIL, IP, now)).isEqualTo(BASE_LOCKOUT_MS);
+        assertThat(blocked("email_ip")).isEqualTo(1);
+    }
+
+    @Test
+    void lockoutDoublesUpToMax() {
+        failFreeAttempts(EMAIL, IP);
+
+        for (long expected : new long[] {1000, 2000, 4000, 8000, 10_000, 10_000}) {
+            guard.recordFailure(EMAIL, IP, now);
+            assertThat(guard.getRemainingBlockMs(EMAIL, IP, now)).isEqualTo(expected);
+
+            // Bekleme bitince bir sonraki deneme yapılabilir
+            now += expected;
+            assertThat(guard.getRemainingBlockMs(EMAIL, IP, now)).isZero();
+        }
+    }
+
+    @Test
+    void emailIsNormalized() {
+        failFreeAttempts(EMAIL, IP);
+        guard.recordFailure("  Victim@Example.COM ", IP, now);
+
+        assertThat(guard.getRemainingBlockMs(EMAIL, IP, now)).isEqualTo(BASE_LOCKOUT_MS);
+    }
+
+    @Test
+    void successClearsOnlyEmailAndIpPair() {
+        String otherIp = "203.0.113.9";
+        failFreeAttempts(EMAIL, IP);
+        guard.recordFailure(EMAIL, IP, now);
+        failFreeAttempts(EMAIL, otherIp);
+        guard.recordFailure(EMAIL, otherIp, now);
+
+        guard.recordSuccess(EMAIL, IP);
+
+        assertThat(guard.getRemainingBlockMs(EMAIL, IP, now)).isZero();
+        assertThat(guard.getRemainingBlockMs(EMAIL, otherIp, now)).isEqualTo(BASE_LOCKOUT_MS);
+
+        // Sayaç sıfırdan başlar
+        failFreeAttempts(EMAIL, IP);
+        assertThat(guard.getRemainingBlockMs(EMAIL, IP, now)).isZero();
+    }
+
+    @Test
+    void manyEmailsFromOneIpBlockTheIp() {
+        for (int i = 0; i < IP_FREE_ATTEMPTS; i++) {
+            guard.recordFailure("user" + i + "@example.com", IP, now);
+        }
+        assertThat(guard.getRemainingBlockMs("fresh@example.com", IP, now)).isZero();
+
+        guard.recordFailure("user-last@example.com", IP, now);
+
+        assertThat(guard.getRemainingBlockMs("fresh@example.com", IP, now)).isEqualTo(BASE_LOCKOUT_MS);
+        assertThat(guard.getRemainingBlockMs("fresh@example.com", "203.0.113.9", now)).isZero();
+        assertThat(blocked("ip")).isEqualTo(1);
+
+        // Başarılı giriş IP sayacını silmez
+        guard.recordSuccess("user0@example.com", IP);
+        assertThat(guard.getRemainingBlockMs("fresh@example.com", IP, now)).isEqualTo(BASE_LOCKOUT_MS);
+    }
+
+    @Test
+    void disabledGuardNeverBlocks() {
+        ReflectionTestUtils.setField(guard, "enabled", false);
+
+        for (int i = 0; i < IP_FREE_ATTEMPTS * 2; i++) {
+            guard.recordFailure(EMAIL, IP, now);
+        }
+        assertThat(guard.getRemainingBlockMs(EMAIL, IP, now)).isZero();
+    }
+
+    // Helper Methods
+
+    private void failFreeAttempts(String email, String ip) {
+        for (int i = 0; i < FREE_ATTEMPTS; i++) {
+            guard.recordFailure(email, ip, now);
+        }
+    }
+
+    private double blocked(String scope) {
+        return meterRegistry.get("auth.login.blocked").tag("scope", scope).counter().count();
+    }
+}
@@ -0,0 +1,84 @@
+// 🚫 Suspended User Registry Test - Yenileme ile yerel değişikliklerin birleştirilmesi
+
+package com.aihukuk.security;
+
+import com.aihukuk.entity.User;
+import com.aihukuk.repository.UserRepository;
+import com.aihukuk.util.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SuspendedUserRegistryTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final SuspendedUserRegistry registry = new SuspendedUserRegistry();
+
+    @BeforeEach
+    void setUp() {
+        JwtUtil jwtUtil = mock(JwtUtil.class);
+        when(jwtUtil.getAccessTokenExpiresIn()).thenReturn(900L);
+
+        ReflectionTestUtils.setField(registry, "userRepository", userRepository);
+        ReflectionTestUtils.setField(registry, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(registry, "statelessAuthEnabled", true);
+    }
+
+    @Test
+    void refreshReplacesListWithQueryResult() {
+        registry.markSuspended(1L);
+        whenQueried(() -> List.of(2L, 3L));
+
+        registry.refresh();
+
+        assertThat(registry.isSuspended(1L)).isFalse();
+        assertThat(registry.isSuspended(2L)).isTrue();
+        assertThat(registry.isSuspended(3L)).isTrue();
+    }
+
+    @Test
+    void changesMadeWhileQueryRunsAreNotLost() {
+        registry.markSuspended(7L);
+        // Sorgu (ör. gecikmeli replica veya commit edilmemiş yazma) bu değişiklikleri görmez
+        whenQueried(() -> {
+            registry.markSuspended(42L);
+            registry.markActive(7L);
+            return List.of(7L, 9L);
+        });
+
+        registry.refresh();
+
+        assertThat(registry.isSuspended(42L)).isTrue();
+        assertThat(registry.isSuspended(7L)).isFalse();
+        assertThat(registry.isSuspended(9L)).isTrue();
+        assertThat(registry.size()).isEqualTo(2);
+    }
+
+    @Test
+    void failedRefreshKeepsCurrentList() {
+        registry.markSuspended(5L);
+        whenQueried(() -> {
+            throw new IllegalStateException("db down");
+        });
+
+        registry.refresh();
+
+        assertThat(registry.isSuspended(5L)).isTrue();
+    }
+
+    // Helper Methods
+
+    private void whenQueried(java.util.function.Supplier<List<Long>> result) {
+        when(userRepository.findDeactivatedUserIdsSince(eq(User.UserStatus.ACTIVE), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> result.get());
+    }
+}
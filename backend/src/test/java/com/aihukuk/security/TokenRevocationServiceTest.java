@@ -0,0 +1,62 @@
+// 🚫 Token Revocation Service Test - Kullanıcı bazlı iptalin zaman karşılaştırması
+
+package com.aihukuk.security;
+
+import com.aihukuk.repository.RevokedTokenRepository;
+import com.aihukuk.util.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationServiceTest {
+
+    private final TokenRevocationService service = new TokenRevocationService();
+
+    @BeforeEach
+    void setUp() {
+        JwtUtil jwtUtil = mock(JwtUtil.class);
+        when(jwtUtil.getAccessTokenExpiresIn()).thenReturn(900L);
+        when(jwtUtil.getRefreshTokenExpiresIn()).thenReturn(2_592_000L);
+
+        ReflectionTestUtils.setField(service, "revokedTokenRepository", mock(RevokedTokenRepository.class));
+        ReflectionTestUtils.setField(service, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(service, "expectedRevocations", 1000L);
+        ReflectionTestUtils.setField(service, "falsePositiveRate", 0.001);
+        ReflectionTestUtils.setField(service, "syncIntervalMs", 10_000L);
+        service.init();
+    }
+
+    @Test
+    void tokensIssuedBeforeUserRevocationAreRevoked() {
+        long before = System.currentTimeMillis();
+        service.revokeAllForUser(1L);
+
+        assertThat(service.isRevoked(null, 1L, new Date(before - 1))).isTrue();
+        assertThat(service.isRevoked(null, 1L, new Date(before))).isTrue();
+    }
+
+    @Test
+    void tokensIssuedRightAfterUserRevocationInSameSecondAreValid() {
+        service.revokeAllForUser(1L);
+        // Tekrar giriş: aynı saniye içinde, iptalden sonraki milisaniyede üretilen token
+        long after = System.currentTimeMillis() + 1;
+
+        assertThat(service.isRevoked(null, 1L, new Date(after))).isFalse();
+        assertThat(service.isRevoked(null, 2L, new Date(after - 10))).isFalse();
+    }
+
+    @Test
+    void legacyTokensWithSecondPrecisionIssuedAtAreRevoked() {
+        long issuedAt = System.currentTimeMillis();
+        service.revokeAllForUser(1L);
+
+        // iatMs claim'i olmayan token'ın iat'ı saniyeye yuvarlanır
+        assertThat(service.isRevoked(null, 1L, new Date(issuedAt / 1000 * 1000))).isTrue();
+    }
+}
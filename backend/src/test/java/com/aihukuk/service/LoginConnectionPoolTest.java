@@ -0,0 +1,120 @@
+// 🔐 Login Connection Pool Test - BCrypt sırasında bağlantı tutulmadığının kontrolü
+
+package com.aihukuk.service;
+
+import com.aihukuk.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Login yükü altında auth havuzundan bağlantı bekleme süresi (hikaricp.connections.acquire)
+ *
+ * Havuz 2 bağlantılık, 16 thread eş zamanlı giriş yapar. Bağlantı BCrypt karşılaştırması
+ * boyunca tutulsaydı her giriş birkaç hash süresi beklerdi; authenticateUser bağlantıyı
+ * sadece kısa okumalar için aldığından bekleme bir hash süresi mertebesinde kalır.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.hikari.maximum-pool-size=2",
+    "spring.datasource.hikari.minimum-idle=2",
+    "spring.datasource.hikari.connection-timeout=30000",
+    "password-hashing.threads=16",
+    "password-hashing.queue-capacity=128"
+})
+@ActiveProfiles("test")
+class LoginConnectionPoolTest {
+
+    private static final int THREADS = 16;
+    private static final int LOGINS = 64;
+    private static final String PASSWORD = "Passw0rd!";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void poolWaitStaysFlatUnderConcurrentLogins() throws Exception {
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            String email = "login" + i + "@example.com";
+            userService.createUser("Login User " + i, email, PASSWORD);
+            emails.add(email);
+        }
+
+        // Tek başına girişler: referans bekleme süresi
+        Timer acquire = acquireTimer();
+        Snapshot before = Snapshot.of(acquire);
+        for (String email : emails) {
+            assertThat(userService.authenticateUser(email, PASSWORD)).isNotNull();
+        }
+        Snapshot sequential = Snapshot.of(acquire).minus(before);
+
+        // Bir BCrypt karşılaştırmasının süresi (bağlantı tutulsaydı bekleme bu mertebede olurdu)
+        String hash = passwordHashingService.encode(PASSWORD);
+        long hashStart = System.nanoTime();
+        passwordHashingService.matches(PASSWORD, hash);
+        long hashNanos = System.nanoTime() - hashStart;
+
+        // Eş zamanlı girişler
+        before = Snapshot.of(acquire);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<User>> results = new ArrayList<>();
+            for (int i = 0; i < LOGINS; i++) {
+                String email = emails.get(i % emails.size());
+                results.add(pool.submit(() -> userService.authenticateUser(email, PASSWORD)));
+            }
+            for (Future<User> result : results) {
+                assertThat(result.get(60, TimeUnit.SECONDS)).isNotNull();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        Snapshot concurrent = Snapshot.of(acquire).minus(before);
+
+        assertThat(concurrent.count()).isGreaterThanOrEqualTo(LOGINS);
+        // Bağlantı hash boyunca tutulsaydı ortalama bekleme ~THREADS / havuz boyutu hash süresi olurdu
+        assertThat(concurrent.meanNanos())
+                .as("mean acquire under load (sequential mean %d ns, one hash %d ns)",
+                        sequential.meanNanos(), hashNanos)
+                .isLessThan(2 * hashNanos);
+    }
+
+    // Helper Methods
+
+    private Timer acquireTimer() {
+        return meterRegistry.get("hikaricp.connections.acquire").tag("pool", "AiHukukHikariCP").timer();
+    }
+
+    private record Snapshot(long count, double totalNanos) {
+
+        static Snapshot of(Timer timer) {
+            return new Snapshot(timer.count(), timer.totalTime(TimeUnit.NANOSECONDS));
+        }
+
+        Snapshot minus(Snapshot other) {
+            return new Snapshot(count - other.count, totalNanos - other.totalNanos);
+        }
+
+        long meanNanos() {
+            return count == 0 ? 0 : (long) (totalNanos / count);
+        }
+    }
+}
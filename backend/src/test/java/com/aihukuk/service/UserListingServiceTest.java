@@ -0,0 +1,149 @@
+// 📋 User Listing Service Test - Cursor ve limit doğrulaması
+
+package com.aihukuk.service;
+
+import com.aihukuk.dto.response.UserPageResponse;
+import com.aihukuk.dto.response.UserResponse;
+import com.aihukuk.entity.User;
+import com.aihukuk.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class UserListingServiceTest {
+
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int MAX_LIMIT = 100;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 12, 30, 0, 123_456_000);
+    private static final LocalDateTime LAST_LOGIN_AT = LocalDateTime.of(2024, 3, 2, 8, 0);
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserListingService service = new UserListingService();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "userRepository", userRepository);
+        ReflectionTestUtils.setField(service, "defaultLimit", DEFAULT_LIMIT);
+        ReflectionTestUtils.setField(service, "maxLimit", MAX_LIMIT);
+    }
+
+    @Test
+    void nextCursorResumesAfterLastRowOfPage() {
+        when(userRepository.findPageByCreatedAt(anySet(), any())).thenReturn(users(30, 3));
+
+        UserPageResponse first = service.listUsers(null, UserListingService.SortKey.CREATED, null, 2);
+
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(first.getUsers()).extracting(UserResponse::getId).containsExactly(30L, 29L);
+        verify(userRepository).findPageByCreatedAt(
+                eq(Set.of(User.UserStatus.ACTIVE, User.UserStatus.SUSPENDED)), eq(PageRequest.of(0, 3)));
+
+        when(userRepository.findPageByCreatedAtBefore(anySet(), any(), any(), any())).thenReturn(users(28, 1));
+        UserPageResponse second = service.listUsers(null, UserListingService.SortKey.CREATED, first.getNextCursor(), 2);
+
+        // Kesirli saniye dahil, son satırın (createdAt, id) değeri aynen geri gelir
+        verify(userRepository).findPageByCreatedAtBefore(anySet(), eq(CREATED_AT), eq(29L), eq(PageRequest.of(0, 3)));
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void lastLoginCursorCarriesLastLoginTime() {
+        when(userRepository.findPageByLastLoginAt(anySet(), any())).thenReturn(users(10, 2));
+        String cursor = service.listUsers(null, UserListingService.SortKey.LAST_LOGIN, null, 1).getNextCursor();
+
+        service.listUsers(null, UserListingService.SortKey.LAST_LOGIN, cursor, 1);
+
+        verify(userRepository).findPageByLastLoginAtBefore(anySet(), eq(LAST_LOGIN_AT), eq(10L), any());
+    }
+
+    @Test
+    void cursorFromAnotherSortIsRejected() {
+        when(userRepository.findPageByCreatedAt(anySet(), any())).thenReturn(users(5, 2));
+        String createdCursor = service.listUsers(null, UserListingService.SortKey.CREATED, null, 1).getNextCursor();
+
+        assertThatThrownBy(() -> service.listUsers(null, UserListingService.SortKey.LAST_LOGIN, createdCursor, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Geçersiz cursor");
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        List<String> cursors = List.of(
+                "not base64!",
+                encode("created|2024-03-01T12:30"),
+                encode("created|yesterday|5"),
+                encode("created|2024-03-01T12:30|abc"),
+                encode("created|2024-03-01T12:30|5|extra"));
+
+        for (String cursor : cursors) {
+            assertThatThrownBy(() -> service.listUsers(null, UserListingService.SortKey.CREATED, cursor, 10))
+                    .as(cursor)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Geçersiz cursor");
+        }
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void limitMustBeWithinBounds() {
+        for (int limit : new int[] {0, -1, MAX_LIMIT + 1}) {
+            assertThatThrownBy(() -> service.listUsers(null, UserListingService.SortKey.CREATED, null, limit))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("limit");
+        }
+        verifyNoInteractions(userRepository);
+
+        service.listUsers(null, UserListingService.SortKey.CREATED, null, MAX_LIMIT);
+        verify(userRepository).findPageByCreatedAt(anySet(), eq(PageRequest.of(0, MAX_LIMIT + 1)));
+
+        service.listUsers(null, UserListingService.SortKey.CREATED, null, null);
+        verify(userRepository).findPageByCreatedAt(anySet(), eq(PageRequest.of(0, DEFAULT_LIMIT + 1)));
+    }
+
+    @Test
+    void parsesStatusFilter() {
+        assertThat(UserListingService.parseStatuses(" Active, deleted ,"))
+                .containsExactlyInAnyOrder(User.UserStatus.ACTIVE, User.UserStatus.DELETED);
+        assertThat(UserListingService.parseStatuses(null)).isEmpty();
+        assertThatThrownBy(() -> UserListingService.parseStatuses("active,banned"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // Helper Methods
+
+    /**
+     * id'si firstId'den geriye sayan, aynı zamanlara sahip kullanıcılar
+     */
+    private static List<User> users(long firstId, int count) {
+        return IntStream.range(0, count).mapToObj(i -> {
+            User user = new User("List User", "list" + (firstId - i) + "@example.com", "hash");
+            user.setId(firstId - i);
+            user.setCreatedAt(CREATED_AT);
+            user.setLastLoginAt(LAST_LOGIN_AT);
+            return user;
+        }).toList();
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,135 @@
+// 🗄️ User Service Replica Lag Test - Login ve token yenilemenin gecikmeli replica'dan okumaması
+
+package com.aihukuk.service;
+
+import com.aihukuk.datasource.ReplicaRoutingDataSource;
+import com.aihukuk.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Gecikmeli replica altında login ve token yenileme
+ *
+ * Replica ayrı bir H2 veritabanıdır; primary'nin o anki kopyası SCRIPT/RUNSCRIPT ile
+ * yüklenir ve sonraki yazmaları hiç almaz (max-lag-ms içinde kalan gecikme). Başka bir
+ * node'u taklit etmek için okumalardan önce second-level cache boşaltılır.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:lag_primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+    "datasource-replicas.enabled=true",
+    "datasource-replicas.urls=jdbc:h2:mem:lag_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+    "datasource-replicas.max-lag-ms=3600000",
+    "datasource-replicas.lag-check-interval-ms=100",
+    "datasource-replicas.pool.minimum-idle=1"
+})
+@ActiveProfiles("test")
+class UserServiceReplicaLagTest {
+
+    private static final String OLD_PASSWORD = "OldPassw0rd!";
+    private static final String NEW_PASSWORD = "NewPassw0rd!";
+
+    @TempDir
+    static Path snapshotDir;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private ReplicaRoutingDataSource replicaRouting;
+    private String email;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        replicaRouting = dataSource.unwrap(ReplicaRoutingDataSource.class);
+
+        email = "lag" + System.nanoTime() + "@example.com";
+        userId = userService.createUser("Lag User", email, OLD_PASSWORD).getId();
+
+        // Replica'yı primary'nin şu anki haliyle eşitle; sonraki yazmalar replica'ya gitmez
+        Path snapshot = snapshotDir.resolve("snapshot-" + System.nanoTime() + ".sql");
+        jdbcTemplate.execute("SCRIPT DROP TO '" + snapshot + "'");
+        new JdbcTemplate(replicaRouting.getReplicas().get("replica-1")).execute("RUNSCRIPT FROM '" + snapshot + "'");
+        awaitReplicaAvailable();
+    }
+
+    @Test
+    void readOnlyLookupsUseLaggingReplica() {
+        userService.updateStatus(userId, User.UserStatus.SUSPENDED);
+        entityManagerFactory.getCache().evictAll();
+
+        // Kontrol: sıradan read-only okuma replica'dan gelir ve eski durumu görür
+        long replicaReads = readCount("replicaReads");
+        assertThat(userService.findByEmail(email).getStatus()).isEqualTo(User.UserStatus.ACTIVE);
+        assertThat(readCount("replicaReads")).isGreaterThan(replicaReads);
+    }
+
+    @Test
+    void loginSeesPasswordChangeBeforeReplica() {
+        userService.updatePassword(userId, NEW_PASSWORD);
+        entityManagerFactory.getCache().evictAll();
+
+        assertThat(userService.authenticateUser(email, OLD_PASSWORD)).isNull();
+        assertThat(userService.authenticateUser(email, NEW_PASSWORD)).isNotNull();
+    }
+
+    @Test
+    void loginRejectsSuspensionBeforeReplica() {
+        userService.updateStatus(userId, User.UserStatus.SUSPENDED);
+        entityManagerFactory.getCache().evictAll();
+
+        assertThat(userService.authenticateUser(email, OLD_PASSWORD)).isNull();
+    }
+
+    @Test
+    void loginAcceptsRegistrationBeforeReplica() {
+        String newEmail = "fresh" + System.nanoTime() + "@example.com";
+        userService.createUser("Fresh User", newEmail, OLD_PASSWORD);
+        entityManagerFactory.getCache().evictAll();
+
+        assertThat(userService.authenticateUser(newEmail, OLD_PASSWORD)).isNotNull();
+    }
+
+    @Test
+    void refreshLookupSeesSuspensionBeforeReplica() {
+        userService.updateStatus(userId, User.UserStatus.SUSPENDED);
+        entityManagerFactory.getCache().evictAll();
+
+        assertThat(userService.findByIdForAuthentication(userId).isActive()).isFalse();
+    }
+
+    // Helper Methods
+
+    private void awaitReplicaAvailable() throws InterruptedException {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(10));
+        while (!Boolean.TRUE.equals(replicaRouting.describe("replica-1").get("available"))) {
+            assertThat(Instant.now()).as("replica lag measured").isBefore(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    private long readCount(String key) {
+        return (Long) replicaRouting.describeReads().get(key);
+    }
+}
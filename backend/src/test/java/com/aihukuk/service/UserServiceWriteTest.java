@@ -0,0 +1,133 @@
+// 👤 User Service Write Test - Yazmaların cache'teki eski kopyayı geri yazmaması
+
+package com.aihukuk.service;
+
+import com.aihukuk.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * verifyEmail / updateStatus ve second-level cache
+ *
+ * Kullanıcı önce cache'e alınır, sonra satır JDBC ile değiştirilir (başka bir node'un
+ * şifre değişikliği ve LastLoginRecorder'ın flush'ı gibi; bu node'un cache'i haberdar
+ * olmaz). Ardından yapılan yazma sadece kendi kolonlarını değiştirmelidir.
+ * Şifre yazmaları diğer kullanıcıların cache kayıtlarına dokunmamalıdır.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserServiceWriteTest {
+
+    private static final String PASSWORD = "Passw0rd!";
+    private static final String OTHER_NODE_HASH = "$2a$12$otherNodeHashotherNodeHashotherNodeHashotherNodeHashot";
+    private static final LocalDateTime OTHER_NODE_LOGIN = LocalDateTime.now().minusMinutes(1).truncatedTo(ChronoUnit.SECONDS);
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long userId;
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        email = "write" + System.nanoTime() + "@example.com";
+        userId = userService.createUser("Write User", email, PASSWORD).getId();
+
+        // Cache'e al, sonra cache'i atlayarak satırı değiştir
+        assertThat(userService.findById(userId)).isNotNull();
+        jdbcTemplate.update("UPDATE users SET password_hash = ?, last_login_at = ? WHERE id = ?",
+                OTHER_NODE_HASH, Timestamp.valueOf(OTHER_NODE_LOGIN), userId);
+    }
+
+    @Test
+    void updateStatusWritesOnlyStatus() {
+        userService.updateStatus(userId, User.UserStatus.SUSPENDED);
+
+        Map<String, Object> row = loadRow();
+        assertThat(row.get("status")).isEqualTo("SUSPENDED");
+        assertThat(row.get("password_hash")).isEqualTo(OTHER_NODE_HASH);
+        assertThat(((Timestamp) row.get("last_login_at")).toLocalDateTime()).isEqualTo(OTHER_NODE_LOGIN);
+    }
+
+    @Test
+    void verifyEmailWritesOnlyVerification() {
+        userService.verifyEmail(userId);
+
+        Map<String, Object> row = loadRow();
+        assertThat(row.get("email_verified")).isEqualTo(true);
+        assertThat(row.get("email_verified_at")).isNotNull();
+        assertThat(row.get("password_hash")).isEqualTo(OTHER_NODE_HASH);
+        assertThat(((Timestamp) row.get("last_login_at")).toLocalDateTime()).isEqualTo(OTHER_NODE_LOGIN);
+    }
+
+    @Test
+    void writeRefreshesCachedCopy() {
+        userService.updateStatus(userId, User.UserStatus.SUSPENDED);
+
+        // Güncel satırdan yüklenen entity commit'te cache'e yazılır
+        User cached = userService.findById(userId);
+        assertThat(cached.getStatus()).isEqualTo(User.UserStatus.SUSPENDED);
+        assertThat(cached.getPasswordHash()).isEqualTo(OTHER_NODE_HASH);
+    }
+
+    @Test
+    void passwordChangeKeepsOtherUsersCached() {
+        Long otherId = cachedOtherUser();
+
+        userService.updatePassword(userId, "NewPassw0rd!");
+
+        assertThat(entityManagerFactory.getCache().contains(User.class, otherId)).isTrue();
+        Map<String, Object> row = loadRow();
+        assertThat((String) row.get("password_hash")).isNotEqualTo(OTHER_NODE_HASH);
+        assertThat(((Timestamp) row.get("last_login_at")).toLocalDateTime()).isEqualTo(OTHER_NODE_LOGIN);
+        assertThat(userService.findById(userId).getPasswordHash()).isEqualTo(row.get("password_hash"));
+    }
+
+    @Test
+    void rehashOnLoginKeepsOtherUsersCached() {
+        // Düşük cost'lu eski hash: login'de bcrypt.rounds ile yenilenir
+        jdbcTemplate.update("UPDATE users SET password_hash = ? WHERE id = ?",
+                new BCryptPasswordEncoder(4).encode(PASSWORD), userId);
+        entityManagerFactory.getCache().evict(User.class, userId);
+        Long otherId = cachedOtherUser();
+
+        assertThat(userService.authenticateUser(email, PASSWORD)).isNotNull();
+
+        assertThat(entityManagerFactory.getCache().contains(User.class, otherId)).isTrue();
+        assertThat((String) loadRow().get("password_hash")).startsWith("{bcrypt}$2a$10$");
+    }
+
+    // Helper Methods
+
+    private Long cachedOtherUser() {
+        Long otherId = userService.createUser("Other User", "other" + System.nanoTime() + "@example.com", PASSWORD).getId();
+        assertThat(userService.findById(otherId)).isNotNull();
+        assertThat(entityManagerFactory.getCache().contains(User.class, otherId)).isTrue();
+        return otherId;
+    }
+
+    private Map<String, Object> loadRow() {
+        return jdbcTemplate.queryForMap(
+                "SELECT status, password_hash, last_login_at, email_verified, email_verified_at FROM users WHERE id = ?",
+                userId);
+    }
+}
@@ -0,0 +1,85 @@
+// 🔐 JwtUtil Test - İmzalama anahtarları ve parser'ların tekrar kullanımı
+
+package com.aihukuk.util;
+
+import com.aihukuk.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilTest {
+
+    static final String ACCESS_SECRET = "access-secret-0123456789012345678901234567890123456789012345678901234567";
+    static final String REFRESH_SECRET = "refresh-secret-012345678901234567890123456789012345678901234567890123456";
+
+    private JwtUtil jwtUtil;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = newJwtUtil();
+        user = testUser();
+    }
+
+    @Test
+    void verificationReusesKeysAndParsersBuiltAtStartup() {
+        Object accessMaterial = ReflectionTestUtils.getField(jwtUtil, "accessTokenMaterial");
+        Object refreshMaterial = ReflectionTestUtils.getField(jwtUtil, "refreshTokenMaterial");
+        Object accessParser = ReflectionTestUtils.getField(accessMaterial, "parser");
+        Object accessKey = ReflectionTestUtils.getField(accessMaterial, "key");
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(jwtUtil.verifyAccessToken(jwtUtil.generateAccessToken(user)).getUserId()).isEqualTo(42L);
+            assertThat(jwtUtil.verifyRefreshToken(jwtUtil.generateRefreshToken(user)).getUserId()).isEqualTo(42L);
+        }
+
+        assertThat(ReflectionTestUtils.getField(jwtUtil, "accessTokenMaterial")).isSameAs(accessMaterial);
+        assertThat(ReflectionTestUtils.getField(jwtUtil, "refreshTokenMaterial")).isSameAs(refreshMaterial);
+        assertThat(ReflectionTestUtils.getField(accessMaterial, "parser")).isSameAs(accessParser);
+        assertThat(ReflectionTestUtils.getField(accessMaterial, "key")).isSameAs(accessKey);
+    }
+
+    @Test
+    void reloadSwapsKeysAndRejectsTokensSignedWithOldSecret() {
+        Object accessMaterial = ReflectionTestUtils.getField(jwtUtil, "accessTokenMaterial");
+        String oldToken = jwtUtil.generateAccessToken(user);
+
+        jwtUtil.reloadSigningKeys(ACCESS_SECRET.replace('0', 'x'), REFRESH_SECRET.replace('0', 'x'));
+
+        assertThat(ReflectionTestUtils.getField(jwtUtil, "accessTokenMaterial")).isNotSameAs(accessMaterial);
+        assertThatThrownBy(() -> jwtUtil.verifyAccessToken(oldToken)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(jwtUtil.verifyAccessToken(jwtUtil.generateAccessToken(user)).getUserId()).isEqualTo(42L);
+    }
+
+    @Test
+    void accessAndRefreshTokensAreNotInterchangeable() {
+        String refreshToken = jwtUtil.generateRefreshToken(user);
+
+        assertThatThrownBy(() -> jwtUtil.verifyAccessToken(refreshToken)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // Helper Methods
+
+    static JwtUtil newJwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtSecret", ACCESS_SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "jwtRefreshSecret", REFRESH_SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpirationTime", 3600L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpirationTime", 2_592_000L);
+        ReflectionTestUtils.setField(jwtUtil, "statelessMaxAccessTokenExpirationTime", 900L);
+        ReflectionTestUtils.setField(jwtUtil, "issuer", "ai-hukuk-api");
+        ReflectionTestUtils.setField(jwtUtil, "audience", "ai-hukuk-frontend");
+        jwtUtil.initSigningMaterial();
+        return jwtUtil;
+    }
+
+    static User testUser() {
+        User user = new User("Ali Veli", "ali@example.com", "hash");
+        user.setId(42L);
+        user.setEmailVerified(true);
+        return user;
+    }
+}
@@ -0,0 +1,76 @@
+// ⏱️ JWT Verification Benchmark - Önceden oluşturulmuş anahtar/parser ile her çağrıda kurulum
+
+package com.aihukuk.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access token doğrulama maliyeti
+ *
+ * - prebuiltParser: JwtUtil.verifyAccessToken (başlangıçta oluşturulan anahtar ve parser)
+ * - perCallParser: önceki davranış; her doğrulamada HMAC anahtarı türetilir ve
+ *   Jwts.parserBuilder() ile yeni parser kurulur
+ *
+ * Çalıştırma (allocation için GC profiler ile):
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) com.aihukuk.util.JwtVerificationBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = JwtUtilTest.newJwtUtil();
+        token = jwtUtil.generateAccessToken(JwtUtilTest.testUser());
+    }
+
+    @Benchmark
+    public VerifiedAccessToken prebuiltParser() {
+        return jwtUtil.verifyAccessToken(token);
+    }
+
+    @Benchmark
+    public Claims perCallParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(JwtUtilTest.ACCESS_SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,71 @@
+// 🕐 UUIDv7 Test - Versiyon/varyant bitleri ve zaman sırası
+
+package com.aihukuk.util;
+
+import com.aihukuk.entity.UuidBinaryConverter;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7Test {
+
+    @Test
+    void setsVersionAndVariantBits() {
+        for (int i = 0; i < 1000; i++) {
+            UUID uuid = UuidV7.generate();
+
+            assertThat(uuid.version()).isEqualTo(7);
+            assertThat(uuid.variant()).isEqualTo(2); // RFC 9562 / IETF varyantı (10xx)
+            assertThat(uuid.toString().charAt(14)).isEqualTo('7');
+            assertThat(uuid.toString().charAt(19)).isIn('8', '9', 'a', 'b');
+        }
+    }
+
+    @Test
+    void embedsCurrentUnixMillis() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.generate();
+        long after = System.currentTimeMillis();
+
+        assertThat(uuid.getMostSignificantBits() >>> 16).isBetween(before, after);
+    }
+
+    @Test
+    void isTimeOrderedAcrossMilliseconds() throws InterruptedException {
+        UuidBinaryConverter converter = new UuidBinaryConverter();
+        UUID previous = UuidV7.generate();
+
+        for (int i = 0; i < 20; i++) {
+            waitForNextMillisecond(previous.getMostSignificantBits() >>> 16);
+            UUID next = UuidV7.generate();
+
+            // Index sırası: BINARY(16) byte'ları işaretsiz karşılaştırılır; string biçimi de aynı sırada
+            assertThat(Arrays.compareUnsigned(converter.convertToDatabaseColumn(previous.toString()),
+                    converter.convertToDatabaseColumn(next.toString()))).isNegative();
+            assertThat(previous.toString()).isLessThan(next.toString());
+            previous = next;
+        }
+    }
+
+    @Test
+    void doesNotRepeatWithinSameMillisecond() {
+        Set<UUID> generated = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            generated.add(UuidV7.generate());
+        }
+        assertThat(generated).hasSize(100_000);
+    }
+
+    // Helper Methods
+
+    private static void waitForNextMillisecond(long millis) throws InterruptedException {
+        while (System.currentTimeMillis() <= millis) {
+            Thread.sleep(1);
+        }
+    }
+}